@@ -0,0 +1,57 @@
+package com.strategists.game.configuration;
+
+import com.strategists.game.service.NodeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Redirects requests of a game to the game's owner node, keeping its state and
+ * commands on one node. Updates are served by any node, via the update bus.
+ */
+@Log4j2
+@Configuration
+public class GameRoutingConfiguration implements WebMvcConfigurer {
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                return redirectToOwner(request, response);
+            }
+        }).addPathPatterns("/api/games/*", "/api/games/*/**").excludePathPatterns("/api/games/*/sse");
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean redirectToOwner(HttpServletRequest request, HttpServletResponse response) {
+        final var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        final var code = Objects.isNull(variables) ? null : variables.get("code");
+        if (Objects.isNull(code) || nodeService.isOwner(code)) {
+            return true;
+        }
+
+        // Preserving the request's method and body on the owner node
+        final var query = request.getQueryString();
+        final var location = nodeService.getOwnerUrl(code) + request.getRequestURI() + (Objects.isNull(query) ? "" : "?" + query);
+        log.debug("Redirecting request of game {} to: {}", code, location);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+        return false;
+    }
+
+}
@@ -1,40 +1,40 @@
 package com.strategists.game.configuration;
 
+import com.strategists.game.configuration.properties.SSEPingConfigurationProperties;
 import com.strategists.game.service.UpdateService;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.TaskScheduler;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 @Log4j2
 @Configuration
 @ConditionalOnProperty(name = "strategists.sse-ping.enabled", havingValue = "true")
 public class SSEPingConfiguration {
 
+    @Autowired
+    private SSEPingConfigurationProperties properties;
+
     @Autowired
     private UpdateService updateService;
 
+    @Autowired
+    private TaskScheduler scheduler;
+
     @PostConstruct
     public void setup() {
-        final var message = """
-                
-                --------------------------------------------------\
-                
-                SSE Ping:\
-                
-                > Enabled: true\
-                
-                --------------------------------------------------""";
-        log.info(message);
+        log.info(properties);
+
+        // Ticking often, so that each connection is pinged close to when it turns idle
+        scheduler.scheduleAtFixedRate(this::ping, Duration.ofMillis(properties.tickInterval()));
     }
 
-    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.SECONDS)
     public void ping() {
-        log.debug("Sending SSE ping...");
+        log.trace("Sending SSE pings to idle connections...");
         updateService.sendPing();
     }
 
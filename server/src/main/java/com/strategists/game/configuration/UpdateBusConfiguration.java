@@ -0,0 +1,54 @@
+package com.strategists.game.configuration;
+
+import com.strategists.game.configuration.properties.UpdateBusConfigurationProperties;
+import com.strategists.game.update.bus.BrokerUpdateBus;
+import com.strategists.game.update.bus.InMemoryUpdateBroker;
+import com.strategists.game.update.bus.LocalUpdateBus;
+import com.strategists.game.update.bus.UpdateBroker;
+import com.strategists.game.update.bus.UpdateBus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Log4j2
+@Configuration
+public class UpdateBusConfiguration {
+
+    private static final String TYPE_PROPERTY = "strategists.update-bus.type";
+
+    @Autowired
+    private UpdateBusConfigurationProperties properties;
+
+    @PostConstruct
+    public void setup() {
+        log.info(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "LOCAL", matchIfMissing = true)
+    public UpdateBus localUpdateBus() {
+        return new LocalUpdateBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "BROKER")
+    public UpdateBus brokerUpdateBus(UpdateBroker updateBroker) {
+        return new BrokerUpdateBus(updateBroker);
+    }
+
+    /**
+     * Stand-in broker, replaced by defining another {@link UpdateBroker} bean.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "BROKER")
+    public UpdateBroker inMemoryUpdateBroker() {
+        log.warn("Using in-memory update broker! Updates only reach nodes running in this JVM.");
+        return new InMemoryUpdateBroker();
+    }
+
+}
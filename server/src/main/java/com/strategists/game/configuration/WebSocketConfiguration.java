@@ -0,0 +1,50 @@
+package com.strategists.game.configuration;
+
+import com.strategists.game.controller.GameWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Log4j2
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(name = "strategists.websocket.enabled", havingValue = "true")
+public class WebSocketConfiguration implements WebSocketConfigurer {
+
+    private static final String PATH = "/api/games/*/ws";
+
+    @PostConstruct
+    public void setup() {
+        final var message = """
+
+                --------------------------------------------------\
+
+                WebSocket:\
+
+                > Enabled: true\
+
+                > Path: %s\
+
+                > Allowed Origins: same origin\
+
+                --------------------------------------------------""";
+        log.info(message.formatted(PATH));
+    }
+
+    @Bean
+    public GameWebSocketHandler gameWebSocketHandler() {
+        return new GameWebSocketHandler();
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // Accepting handshakes from the API's own origin only, as the REST API has no CORS mappings for other origins
+        registry.addHandler(gameWebSocketHandler(), PATH).setAllowedOrigins();
+    }
+
+}
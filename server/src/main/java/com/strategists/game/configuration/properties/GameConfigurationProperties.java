@@ -14,7 +14,8 @@ public record GameConfigurationProperties(@NotBlank String defaultMap,
                                           @Positive double rentFactor,
                                           @Positive int codeLength,
                                           @Positive int minPlayersCount,
-                                          @Positive int maxPlayersCount) {
+                                          @Positive int maxPlayersCount,
+                                          @Positive int syncMaxStepGap) {
 
     @AssertTrue(message = "Dice size should be >1 and <=8!")
     boolean isDiceSizeValid() {
@@ -57,6 +58,7 @@ public record GameConfigurationProperties(@NotBlank String defaultMap,
                 "\n> Code Length: " + codeLength +
                 "\n> Min Players Count: " + minPlayersCount +
                 "\n> Max Players Count: " + maxPlayersCount +
+                "\n> Sync Max Step Gap: " + syncMaxStepGap +
                 "\n--------------------------------------------------";
     }
 
@@ -0,0 +1,27 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.game-executor")
+public record GameExecutorConfigurationProperties(@Positive int mailboxCapacity) {
+
+    @AssertTrue(message = "Game executor's mailbox capacity should be <=1024!")
+    boolean isMailboxCapacityValid() {
+        return mailboxCapacity <= 1024;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nGame Executor:" +
+                "\n> Mailbox Capacity: " + mailboxCapacity +
+                "\n--------------------------------------------------";
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.game-maps")
+public record GameMapsConfigurationProperties(@NotBlank String location, @PositiveOrZero int reloadInterval) {
+
+    @AssertTrue(message = "Game maps reload interval should be 0 (disabled) or >=1000 milliseconds!")
+    boolean isReloadIntervalValid() {
+        return reloadInterval == 0 || reloadInterval >= 1000;
+    }
+
+    /**
+     * @return Resource pattern matching every game map's JSON file in the location
+     */
+    public String getPattern() {
+        return (location.endsWith("/") ? location : location + "/") + "*.json";
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nGame Maps:" +
+                "\n> Location: " + location +
+                "\n> Reload Interval (milliseconds): " + reloadInterval +
+                "\n--------------------------------------------------";
+    }
+
+}
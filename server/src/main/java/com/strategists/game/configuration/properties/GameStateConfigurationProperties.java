@@ -0,0 +1,44 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.game-state")
+public record GameStateConfigurationProperties(@Positive int flushInterval,
+                                               @Positive int flushBatchSize,
+                                               @NotNull Durability durability) {
+
+    public enum Durability {
+        /**
+         * Game's state is only flushed to the database in the background.
+         */
+        ASYNC,
+
+        /**
+         * Game's state is flushed in the background, and synchronously once the game ends.
+         */
+        SYNC_ON_END;
+    }
+
+    @AssertTrue(message = "Game state flush interval should be >=100 and <=60000 milliseconds!")
+    boolean isFlushIntervalValid() {
+        return flushInterval >= 100 && flushInterval <= 60000;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nGame State:" +
+                "\n> Flush Interval (milliseconds): " + flushInterval +
+                "\n> Flush Batch Size: " + flushBatchSize +
+                "\n> Durability: " + durability +
+                "\n--------------------------------------------------";
+    }
+
+}
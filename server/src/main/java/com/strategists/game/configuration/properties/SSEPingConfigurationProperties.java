@@ -0,0 +1,38 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.sse-ping")
+public record SSEPingConfigurationProperties(boolean enabled, @Positive int idleTimeout) {
+
+    // Idle connections are pinged at most 1/32 of the idle timeout late
+    private static final int TICKS_PER_IDLE_TIMEOUT = 32;
+
+    @AssertTrue(message = "SSE ping's idle timeout should be >=1000 milliseconds!")
+    boolean isIdleTimeoutValid() {
+        return !enabled || idleTimeout >= 1000;
+    }
+
+    /**
+     * @return Interval at which idle connections are looked for, in milliseconds
+     */
+    public long tickInterval() {
+        return Math.max(idleTimeout / TICKS_PER_IDLE_TIMEOUT, 1);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nSSE Ping:" +
+                "\n> Enabled: " + enabled +
+                "\n> Idle Timeout (milliseconds): " + idleTimeout +
+                "\n--------------------------------------------------";
+    }
+
+}
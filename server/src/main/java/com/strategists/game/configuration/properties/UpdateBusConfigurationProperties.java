@@ -0,0 +1,51 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.update-bus")
+public record UpdateBusConfigurationProperties(@NotNull Type type,
+                                               @DefaultValue("") String nodeUrl,
+                                               @DefaultValue List<String> nodes) {
+
+    public enum Type {
+        /**
+         * Updates are only delivered to this node's subscribers.
+         */
+        LOCAL,
+
+        /**
+         * Updates are also published through a broker, to other nodes holding the game's subscribers.
+         */
+        BROKER;
+    }
+
+    @AssertTrue(message = "Update bus' node URL should be one of the nodes!")
+    boolean isNodeUrlValid() {
+        return nodes.isEmpty() || nodes.contains(nodeUrl);
+    }
+
+    @AssertTrue(message = "Update bus' nodes require the BROKER type!")
+    boolean isNodesValid() {
+        return nodes.size() <= 1 || Type.BROKER.equals(type);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nUpdate Bus:" +
+                "\n> Type: " + type +
+                "\n> Node URL: " + nodeUrl +
+                "\n> Nodes: " + nodes +
+                "\n--------------------------------------------------";
+    }
+
+}
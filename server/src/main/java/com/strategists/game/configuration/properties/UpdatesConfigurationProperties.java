@@ -0,0 +1,50 @@
+package com.strategists.game.configuration.properties;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "strategists.updates")
+public record UpdatesConfigurationProperties(@Positive int queueCapacity,
+                                             @Positive int stallTimeout,
+                                             @Positive int replayCapacity,
+                                             boolean deltas,
+                                             boolean verifyDeltas) {
+
+    @AssertTrue(message = "Updates' queue capacity should be <=4096!")
+    boolean isQueueCapacityValid() {
+        return queueCapacity <= 4096;
+    }
+
+    @AssertTrue(message = "Updates' stall timeout should be >=1000 milliseconds!")
+    boolean isStallTimeoutValid() {
+        return stallTimeout >= 1000;
+    }
+
+    @AssertTrue(message = "Updates' replay capacity should be <= queue capacity!")
+    boolean isReplayCapacityValid() {
+        return replayCapacity <= queueCapacity;
+    }
+
+    @AssertTrue(message = "Updates' delta verification requires deltas to be enabled!")
+    boolean isVerifyDeltasValid() {
+        return !verifyDeltas || deltas;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nUpdates:" +
+                "\n> Queue Capacity: " + queueCapacity +
+                "\n> Stall Timeout (milliseconds): " + stallTimeout +
+                "\n> Replay Capacity: " + replayCapacity +
+                "\n> Deltas: " + deltas +
+                "\n> Verify Deltas: " + verifyDeltas +
+                "\n--------------------------------------------------";
+    }
+
+}
@@ -3,7 +3,10 @@ package com.strategists.game.controller;
 import com.strategists.game.request.GoogleOAuthCredential;
 import com.strategists.game.response.EnterGameResponse;
 import com.strategists.game.response.GameResponse;
+import com.strategists.game.response.GameSyncResponse;
 import com.strategists.game.response.PermissionGroupResponse;
+import com.strategists.game.response.TrendSeriesResponse;
+import com.strategists.game.service.GameExecutorService;
 import com.strategists.game.service.GameService;
 import com.strategists.game.service.PermissionsService;
 import com.strategists.game.service.PlayerService;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Objects;
 
 @Log4j2
@@ -35,6 +39,9 @@ public class GameController {
     @Autowired
     private PlayerService playerService;
 
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
     @Autowired(required = false)
     private PermissionsService permissionsService;
 
@@ -56,6 +63,26 @@ public class GameController {
         }
     }
 
+    @GetMapping("/{code}/sync")
+    public ResponseEntity<GameSyncResponse> getGameSyncResponse(@PathVariable String code, @RequestParam(name = "step") int step) {
+        try {
+            // Finding requested game
+            final var game = gameService.getGameByCode(code);
+
+            // Preparing changes since client's last seen step
+            return ResponseEntity.ok(gameService.getGameSyncResponse(game, step));
+
+        } catch (Exception ex) {
+            log.warn(ex.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{code}/trends")
+    public List<TrendSeriesResponse> getTrendSeries(@PathVariable String code) {
+        return gameService.getTrendSeries(gameService.getGameByCode(code));
+    }
+
     @GetMapping
     public ResponseEntity<EnterGameResponse> findGame(@RequestParam(name = "credential") String jwt) {
         try {
@@ -94,22 +121,28 @@ public class GameController {
 
     @PutMapping("/{code}/start")
     public void startGame(@PathVariable String code) {
-        final var game = gameService.getGameByCode(code);
-        Assert.state(game.isLobby(), "Game already started!");
-        gameService.startGame(game);
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            Assert.state(game.isLobby(), "Game already started!");
+            gameService.startGame(game);
+        });
     }
 
     @PutMapping("/{code}/turn")
     public void playTurn(@PathVariable String code) {
-        final var game = gameService.getGameByCode(code);
-        Assert.state(game.isActive(), "Game not started yet!");
-        gameService.playTurn(game);
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            Assert.state(game.isActive(), "Game not started yet!");
+            gameService.playTurn(game);
+        });
     }
 
     @DeleteMapping("/{code}")
     public void resetGame(@PathVariable String code) {
-        final var game = gameService.getGameByCode(code);
-        gameService.resetGame(game);
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            gameService.resetGame(game);
+        });
     }
 
 }
@@ -0,0 +1,168 @@
+package com.strategists.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.strategists.game.entity.Player;
+import com.strategists.game.request.GameCommandRequest;
+import com.strategists.game.response.GameCommandResponse;
+import com.strategists.game.service.GameExecutorService;
+import com.strategists.game.service.GameService;
+import com.strategists.game.service.LandService;
+import com.strategists.game.service.PlayerService;
+import com.strategists.game.service.UpdateService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.Assert;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * WebSocket endpoint at <code>/api/games/{code}/ws?playerId={id}</code>, carrying
+ * the same updates as the SSE endpoint and the player's commands. Updates are
+ * sent as CBOR binary messages, or as JSON text messages with <code>format=json</code>.
+ * Commands are accepted in either encoding, and each is answered with a
+ * {@link GameCommandResponse} in the session's encoding.
+ */
+@Log4j2
+public class GameWebSocketHandler extends AbstractWebSocketHandler {
+
+    private static final String PLAYER_ATTRIBUTE = "player";
+    private static final String BINARY_ATTRIBUTE = "binary";
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private LandService landService;
+
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
+    @Autowired
+    private UpdateService updateService;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // Resolving game's code and player's ID from the URI
+        final var uri = UriComponentsBuilder.fromUri(Objects.requireNonNull(session.getUri())).build();
+        final var segments = uri.getPathSegments();
+        final var params = uri.getQueryParams();
+
+        final Player player;
+        try {
+            final var game = gameService.getGameByCode(segments.get(segments.size() - 2));
+            player = playerService.getPlayerById(Long.parseLong(Objects.requireNonNull(params.getFirst("playerId"))));
+            Assert.isTrue(Objects.equals(game, player.getGame()), "Player doesn't belong in requested game!");
+        } catch (Exception ex) {
+            log.warn(ex.getMessage());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        // Subscribing the session to the game's updates
+        final var binary = !"json".equalsIgnoreCase(params.getFirst("format"));
+        session.getAttributes().put(PLAYER_ATTRIBUTE, player);
+        session.getAttributes().put(BINARY_ATTRIBUTE, binary);
+        updateService.registerSession(player, session, binary);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        handleCommand(session, message.asBytes(), mapper);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        final var bytes = new byte[message.getPayloadLength()];
+        message.getPayload().get(bytes);
+        handleCommand(session, bytes, CBOR_MAPPER);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug(exception);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().get(PLAYER_ATTRIBUTE) instanceof Player player) {
+            updateService.removeSession(player, session);
+        }
+    }
+
+    private void handleCommand(WebSocketSession session, byte[] bytes, ObjectMapper reader) throws IOException {
+        final var player = (Player) session.getAttributes().get(PLAYER_ATTRIBUTE);
+        if (Objects.isNull(player)) {
+            return;
+        }
+
+        GameCommandRequest command = null;
+        final var response = GameCommandResponse.builder();
+        try {
+            // Decoding command in the message's encoding
+            command = reader.readValue(bytes, GameCommandRequest.class);
+            Assert.notNull(command.getType(), "Command type is required!");
+
+            executeCommand(player.getGame().getCode(), player.getId(), command);
+            response.success(true);
+        } catch (RejectedExecutionException ex) {
+            log.warn(ex.getMessage());
+            response.success(false).message("Too many pending commands!");
+        } catch (Exception ex) {
+            log.warn(ex.getMessage());
+            response.success(false).message(ex.getMessage());
+        }
+        response.commandId(Objects.nonNull(command) ? command.getId() : null);
+
+        // Responding in the session's encoding, locking since updates are sent on the same session
+        final var reply = Boolean.TRUE.equals(session.getAttributes().get(BINARY_ATTRIBUTE))
+                ? new BinaryMessage(CBOR_MAPPER.writeValueAsBytes(response.build()))
+                : new TextMessage(mapper.writeValueAsBytes(response.build()));
+        synchronized (session) {
+            session.sendMessage(reply);
+        }
+    }
+
+    private void executeCommand(String code, long playerId, GameCommandRequest command) {
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            switch (command.getType()) {
+                case START -> {
+                    Assert.state(game.isLobby(), "Game already started!");
+                    gameService.startGame(game);
+                }
+                case TURN -> {
+                    Assert.state(game.isActive(), "Game not started yet!");
+                    gameService.playTurn(game);
+                }
+                case INVEST -> {
+                    Assert.state(game.isActive(), "You need an active game to buy land!");
+
+                    final var player = playerService.getCurrentPlayer(game);
+                    Assert.state(Objects.equals(playerId, player.getId()), "Requesting player is not the current player!");
+
+                    final var land = landService.getLandByIndex(game, player.getIndex());
+                    Assert.state(Objects.equals(land.getId(), command.getLandId()), "Current player is not at the requested land!");
+
+                    playerService.invest(player, land, command.getOwnership());
+                }
+            }
+        });
+    }
+
+}
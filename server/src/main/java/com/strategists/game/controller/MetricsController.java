@@ -0,0 +1,32 @@
+package com.strategists.game.controller;
+
+import com.strategists.game.response.GameExecutorMetricsResponse;
+import com.strategists.game.response.UpdateMetricsResponse;
+import com.strategists.game.service.GameExecutorService;
+import com.strategists.game.service.UpdateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
+    @Autowired
+    private UpdateService updateService;
+
+    @GetMapping("/game-executor")
+    public GameExecutorMetricsResponse getGameExecutorMetrics() {
+        return gameExecutorService.getMetrics();
+    }
+
+    @GetMapping("/updates")
+    public UpdateMetricsResponse getUpdateMetrics() {
+        return updateService.getMetrics();
+    }
+
+}
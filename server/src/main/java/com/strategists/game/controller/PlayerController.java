@@ -6,11 +6,13 @@ import com.strategists.game.request.InvestmentRequest;
 import com.strategists.game.request.KickPlayerRequest;
 import com.strategists.game.response.EnterGameResponse;
 import com.strategists.game.service.AdvicesService;
+import com.strategists.game.service.GameExecutorService;
 import com.strategists.game.service.GameService;
 import com.strategists.game.service.LandService;
 import com.strategists.game.service.PlayerService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 @Log4j2
 @RestController
@@ -37,6 +40,9 @@ public class PlayerController {
     @Autowired
     private LandService landService;
 
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
     @Autowired(required = false)
     private AdvicesService advicesService;
 
@@ -45,7 +51,7 @@ public class PlayerController {
                                                        @RequestBody GoogleOAuthCredential credential) {
 
         // Checking if game exists
-        Game game = null;
+        final Game game;
         try {
             game = gameService.getGameByCode(code);
         } catch (Exception ex) {
@@ -55,9 +61,14 @@ public class PlayerController {
 
         // Adding player to the game
         try {
-            Assert.state(game.isLobby(), "Players can't join active games!");
-            final var player = playerService.addPlayer(game, credential.getEmail(), credential.getName());
+            final var player = gameExecutorService.execute(code, () -> {
+                Assert.state(game.isLobby(), "Players can't join active games!");
+                return playerService.addPlayer(game, credential.getEmail(), credential.getName());
+            });
             return ResponseEntity.ok(EnterGameResponse.fromPlayer(player));
+        } catch (RejectedExecutionException ex) {
+            log.warn(ex.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
         } catch (Exception ex) {
             log.warn(ex.getMessage());
             return ResponseEntity.badRequest().build();
@@ -67,33 +78,39 @@ public class PlayerController {
 
     @DeleteMapping
     public void kickPlayer(@PathVariable String code, @RequestBody KickPlayerRequest request) {
-        final var game = gameService.getGameByCode(code);
-        Assert.state(game.isLobby(), "Can't kick players in active game!");
-        playerService.kickPlayer(request.getPlayerId());
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            Assert.state(game.isLobby(), "Can't kick players in active game!");
+            playerService.kickPlayer(request.getPlayerId());
+        });
     }
 
     @PostMapping("/{playerId}/lands")
     public void invest(@PathVariable String code, @PathVariable long playerId, @RequestBody InvestmentRequest request) {
-        final var game = gameService.getGameByCode(code);
-        Assert.state(game.isActive(), "You need an active game to buy land!");
+        gameExecutorService.execute(code, () -> {
+            final var game = gameService.getGameByCode(code);
+            Assert.state(game.isActive(), "You need an active game to buy land!");
 
-        final var player = playerService.getCurrentPlayer(game);
-        Assert.state(Objects.equals(playerId, player.getId()), "Requesting player is not the current player!");
+            final var player = playerService.getCurrentPlayer(game);
+            Assert.state(Objects.equals(playerId, player.getId()), "Requesting player is not the current player!");
 
-        final var land = landService.getLandByIndex(game, player.getIndex());
-        Assert.state(Objects.equals(land.getId(), request.getLandId()), "Current player is not at the requested land!");
+            final var land = landService.getLandByIndex(game, player.getIndex());
+            Assert.state(Objects.equals(land.getId(), request.getLandId()), "Current player is not at the requested land!");
 
-        playerService.invest(player, land, request.getOwnership());
+            playerService.invest(player, land, request.getOwnership());
+        });
     }
 
     @PatchMapping("/{playerId}/advices")
     public void markAdvicesViewed(@PathVariable String code, @PathVariable long playerId) {
         Assert.notNull(advicesService, "Advice Service is not enabled!");
 
-        final var player = playerService.getPlayerById(playerId);
-        Assert.state(Objects.equals(code, player.getGame().getCode()), "Requesting player not in the game!");
+        gameExecutorService.execute(code, () -> {
+            final var player = playerService.getPlayerById(playerId);
+            Assert.state(Objects.equals(code, player.getGame().getCode()), "Requesting player not in the game!");
 
-        advicesService.markPlayerAdvicesViewed(player);
+            advicesService.markPlayerAdvicesViewed(player);
+        });
     }
 
 }
@@ -1,8 +1,11 @@
 package com.strategists.game.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.util.MathUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,7 +17,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -25,14 +30,40 @@ import java.io.Serializable;
 @Data
 @Entity
 @NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
 @Table(name = "activities")
 public class Activity implements Serializable {
 
     @Serial
-    private static final long serialVersionUID = -6960667863521865520L;
+    private static final long serialVersionUID = 4218075937262319437L;
+
+    /**
+     * Texts of activities, rendered by clients from the activity's arguments
+     * instead of being formatted on every response.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Template {
+        BANKRUPTCY(UpdateType.BANKRUPTCY),
+        CREATE(UpdateType.CREATE),
+        INVEST(UpdateType.INVEST),
+        JOIN(UpdateType.JOIN),
+        KICK(UpdateType.KICK),
+        MOVE(UpdateType.MOVE),
+        PREDICTION_LEADER(UpdateType.PREDICTION),
+        PREDICTION_WINNER(UpdateType.PREDICTION),
+        RENT(UpdateType.RENT),
+        RESET(UpdateType.RESET),
+        SKIP(UpdateType.SKIP),
+        START(UpdateType.START),
+        TURN(UpdateType.TURN),
+        WIN(UpdateType.WIN);
+
+        private final UpdateType type;
+    }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Column(nullable = false)
@@ -40,23 +71,23 @@ public class Activity implements Serializable {
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
-    private UpdateType type;
+    private Template template;
 
-    @JsonIgnore
+    // Acting player's username
     @Column(nullable = true)
-    private String val1;
+    private String player;
 
-    @JsonIgnore
+    // Username of the player on the other side, like the rent's payee
     @Column(nullable = true)
-    private String val2;
+    private String otherPlayer;
 
-    @JsonIgnore
+    // Name of the land involved
     @Column(nullable = true)
-    private String val3;
+    private String land;
 
-    @JsonIgnore
-    @Column(nullable = true)
-    private String val4;
+    // Ownership invested, steps moved, or rent paid
+    @Column(nullable = true, precision = MathUtil.PRECISION)
+    private Double amount;
 
     @JsonIgnore
     @ManyToOne
@@ -64,127 +95,83 @@ public class Activity implements Serializable {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Game game;
 
-    public Activity(Game game, UpdateType type, String... values) {
+    private Activity(Game game, Template template, String player, String otherPlayer, String land, Double amount) {
         this.game = game;
         this.step = game.getCurrentStep();
-        this.type = type;
-        this.val1 = values.length > 0 ? values[0] : null;
-        this.val2 = values.length > 1 ? values[1] : null;
-        this.val3 = values.length > 2 ? values[2] : null;
-        this.val4 = values.length > 3 ? values[3] : null;
-        if (values.length > 4) {
-            throw new IllegalArgumentException("More than 5 values are not supported!");
-        }
+        this.template = template;
+        this.player = player;
+        this.otherPlayer = otherPlayer;
+        this.land = land;
+        this.amount = amount;
+    }
+
+    private Activity(Player player, Template template) {
+        this(player.getGame(), template, player.getUsername(), null, null, null);
     }
 
     @Transient
-    @JsonProperty("text")
-    public String getText() {
-        switch (getType()) {
-            case BANKRUPTCY -> {
-                return String.format("%s declared bankruptcy!", getVal1());
-            }
-            case CREATE -> {
-                return String.format("%s created game %s", getVal1(), getVal2());
-            }
-            case INVEST -> {
-                return String.format("%s invested in %s of %s!", getVal1(), getVal2(), getVal3());
-            }
-            case JOIN -> {
-                return String.format("%s joined The Strategists!", getVal1());
-            }
-            case KICK -> {
-                return String.format("Host kicked %s out!", getVal1());
-            }
-            case MOVE -> {
-                return String.format("%s travelled %s steps and reached %s.", getVal1(), getVal2(), getVal3());
-            }
-            case PREDICTION -> {
-                return PlayerPrediction.Prediction.WINNER.name().equals(getVal2())
-                        ? String.format("%s is likely to win based on the predictions!", getVal1())
-                        : String.format("%s leads slightly based on the predictions.", getVal1());
-            }
-            case RENT -> {
-                return String.format("%s paid %s cash rent to %s for %s.", getVal1(), getVal2(), getVal3(), getVal4());
-            }
-            case RESET -> {
-                return "Host restarted The Strategists!";
-            }
-            case SKIP -> {
-                return String.format("%s's turn skipped due to inactivity!", getVal1());
-            }
-            case START -> {
-                return String.format("The Strategists started! %s's turn to invest.", getVal1());
-            }
-            case TURN -> {
-                return String.format("%s passed turn to %s.", getVal1(), getVal2());
-            }
-            case WIN -> {
-                return String.format("%s won The Strategists!", getVal1());
-            }
-            default -> {
-                return String.format("Unknown activity type: '%s'", getType());
-            }
-        }
+    @JsonProperty("type")
+    public UpdateType getType() {
+        return template.getType();
     }
 
     public static Activity ofBankruptcy(Player player) {
-        return new Activity(player.getGame(), UpdateType.BANKRUPTCY, player.getUsername());
+        return new Activity(player, Template.BANKRUPTCY);
     }
 
     public static Activity ofCreate(Player player) {
-        return new Activity(player.getGame(), UpdateType.CREATE, player.getUsername(), player.getGame().getCode());
+        return new Activity(player, Template.CREATE);
     }
 
     public static Activity ofInvest(Player player, Land land, double ownership) {
-        return new Activity(player.getGame(), UpdateType.INVEST, player.getUsername(), Double.toString(ownership), land.getName());
+        return new Activity(player.getGame(), Template.INVEST, player.getUsername(), null, land.getName(), ownership);
     }
 
     public static Activity ofJoin(Player player) {
-        return new Activity(player.getGame(), UpdateType.JOIN, player.getUsername());
+        return new Activity(player, Template.JOIN);
     }
 
     public static Activity ofKick(Player player) {
-        return new Activity(player.getGame(), UpdateType.KICK, player.getUsername());
+        return new Activity(player, Template.KICK);
     }
 
     public static Activity ofMove(Player player, int move, Land land) {
-        final var game = player.getGame();
-        return new Activity(game, UpdateType.MOVE, player.getUsername(), Integer.toString(move), land.getName());
+        return new Activity(player.getGame(), Template.MOVE, player.getUsername(), null, land.getName(), (double) move);
     }
 
     public static Activity ofPrediction(PlayerPrediction playerPrediction) {
-        final var player = playerPrediction.getPlayer();
-        return new Activity(player.getGame(), UpdateType.PREDICTION, player.getUsername(), playerPrediction.getPrediction().name());
+        final var template = PlayerPrediction.Prediction.WINNER.equals(playerPrediction.getPrediction())
+                ? Template.PREDICTION_WINNER
+                : Template.PREDICTION_LEADER;
+        return new Activity(playerPrediction.getPlayer(), template);
     }
 
     public static Activity ofRent(Rent rent) {
         final var payer = rent.getSourcePlayer();
         final var payee = rent.getTargetPlayer();
         final var land = rent.getLand();
-        final var amount = rent.getRentAmount();
-        return new Activity(payer.getGame(), UpdateType.RENT, payer.getUsername(), Double.toString(amount), payee.getUsername(), land.getName());
+        return new Activity(payer.getGame(), Template.RENT, payer.getUsername(), payee.getUsername(), land.getName(), rent.getRentAmount());
     }
 
     public static Activity ofReset(Game game) {
-        return new Activity(game, UpdateType.RESET);
+        return new Activity(game, Template.RESET, null, null, null, null);
     }
 
     public static Activity ofSkip(Player player) {
-        return new Activity(player.getGame(), UpdateType.SKIP, player.getUsername());
+        return new Activity(player, Template.SKIP);
     }
 
     public static Activity ofStart(Player player) {
-        return new Activity(player.getGame(), UpdateType.START, player.getUsername());
+        return new Activity(player, Template.START);
     }
 
     public static Activity ofTurn(Player previousPlayer, Player currentPlayer) {
         final var game = previousPlayer.getGame();
-        return new Activity(game, UpdateType.TURN, previousPlayer.getUsername(), currentPlayer.getUsername());
+        return new Activity(game, Template.TURN, previousPlayer.getUsername(), currentPlayer.getUsername(), null, null);
     }
 
     public static Activity ofWin(Player player) {
-        return new Activity(player.getGame(), UpdateType.WIN, player.getUsername());
+        return new Activity(player, Template.WIN);
     }
 
 }
@@ -3,29 +3,66 @@ package com.strategists.game.entity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
-import lombok.val;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 
 @Data
 @Log4j2
 public class GameMap {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private String id;
     private String name;
     private String description;
     private Double playerBaseCash;
     private List<Land> lands;
 
-    public static GameMap from(File json) {
-        val mapper = new ObjectMapper();
+    public static GameMap from(InputStream json) {
         try {
-            return mapper.readValue(json, GameMap.class);
+            return MAPPER.readValue(json, GameMap.class);
         } catch (Exception ex) {
             log.error(ex.getMessage(), ex);
             return null;
         }
     }
 
+    /**
+     * Parses and validates a game map that is shared between games. Template's
+     * lands must never be saved, use {@link #newLands()} to get a game's copy.
+     *
+     * @param json Game map's JSON
+     * @return Game map's template
+     * @throws IOException If the JSON couldn't be parsed
+     */
+    public static GameMap template(InputStream json) throws IOException {
+        final var gameMap = MAPPER.readValue(json, GameMap.class);
+        Assert.hasText(gameMap.getId(), "Game map's ID is required!");
+        Assert.hasText(gameMap.getName(), "Game map's name is required!");
+        Assert.isTrue(Objects.nonNull(gameMap.getPlayerBaseCash()) && gameMap.getPlayerBaseCash() > 0, "Game map's player base cash should be >0!");
+        Assert.isTrue(!CollectionUtils.isEmpty(gameMap.getLands()), "Game map should have at least 1 land!");
+        for (Land land : gameMap.getLands()) {
+            Assert.hasText(land.getName(), "Land's name is required!");
+            Assert.isTrue(Objects.nonNull(land.getX()) && Objects.nonNull(land.getY()), "Land's position is required: " + land.getName());
+            Assert.notNull(land.getPlayerPosition(), "Land's player position is required: " + land.getName());
+            Assert.notNull(land.getSensitivity(), "Land's sensitivity is required: " + land.getName());
+            Assert.notNull(land.getBaseValue(), "Land's base value is required: " + land.getName());
+        }
+
+        gameMap.setLands(List.copyOf(gameMap.getLands()));
+        return gameMap;
+    }
+
+    /**
+     * @return New (unsaved) copies of the map's lands, in the order of the board
+     */
+    public List<Land> newLands() {
+        return lands.stream().map(Land::copyOf).toList();
+    }
+
 }
@@ -20,9 +20,12 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -113,9 +116,58 @@ public class Land implements Serializable {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "pk.land", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<LandEvent> landEvents;
 
+    /**
+     * Cached market value, invalidated whenever its inputs change (investments,
+     * events or owners' bankruptcy).
+     */
+    @JsonIgnore
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Double cachedMarketValue;
+
+    /**
+     * Copies the land's layout and valuation from a game map's template land.
+     *
+     * @param template Game map's land
+     * @return New land, yet to be associated with a game
+     */
+    public static Land copyOf(Land template) {
+        final var land = new Land();
+        land.setName(template.getName());
+        land.setX(template.getX());
+        land.setY(template.getY());
+        land.setPlayerPosition(template.getPlayerPosition());
+        land.setSensitivity(template.getSensitivity());
+        land.setBaseValue(template.getBaseValue());
+        land.setPlayerLands(new ArrayList<>());
+        land.setLandEvents(new ArrayList<>());
+        return land;
+    }
+
     @Transient
     public double getMarketValue() {
-        return baseValue + (sensitivity + getDelta()) * getTotalOwnership();
+        var marketValue = cachedMarketValue;
+        if (Objects.isNull(marketValue)) {
+            marketValue = baseValue + (sensitivity + getDelta()) * getTotalOwnership();
+            cachedMarketValue = marketValue;
+        }
+        return marketValue;
+    }
+
+    public void invalidateMarketValue() {
+        cachedMarketValue = null;
+    }
+
+    /**
+     * Recomputes the cached market value right away, rather than on next read.
+     *
+     * @return Land's Market Value
+     */
+    public double updateMarketValue() {
+        invalidateMarketValue();
+        return getMarketValue();
     }
 
     /**
@@ -143,15 +195,24 @@ public class Land implements Serializable {
         return MathUtil.sum(landEvents, le -> DAMPENER * le.getEvent().getFactor() * le.getLevel() * le.getLife());
     }
 
-    public void addEvent(Event event, int life, int level) {
+    public LandEvent addEvent(Event event, int life, int level) {
         landEvents = Objects.isNull(landEvents) ? new ArrayList<>() : landEvents;
         final var opt = landEvents.stream().filter(le -> Objects.equals(le.getEventId(), event.getId())).findFirst();
+        invalidateMarketValue();
         if (opt.isEmpty()) {
-            landEvents.add(new LandEvent(this, event, life, level));
-            return;
+            final var landEvent = new LandEvent(this, event, life, level);
+            landEvents.add(landEvent);
+            return landEvent;
         }
         opt.get().setLife(opt.get().getLife() + life);
         opt.get().setLevel(level);
+        return opt.get();
+    }
+
+    public void addPlayerLand(PlayerLand playerLand) {
+        playerLands = Objects.isNull(playerLands) ? new ArrayList<>() : playerLands;
+        playerLands.add(playerLand);
+        invalidateMarketValue();
     }
 
 }
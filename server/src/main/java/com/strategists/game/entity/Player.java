@@ -92,6 +92,21 @@ public class Player implements Serializable {
     @Column(nullable = true, columnDefinition = "INTEGER DEFAULT NULL")
     private Integer remainingSkipsCount;
 
+    /**
+     * Running total of player's cash, maintained as rents and investments are
+     * added instead of summing them on every read.
+     */
+    @Column(nullable = false, precision = MathUtil.PRECISION)
+    private Double cash;
+
+    /**
+     * Running total of player's investments' buy amounts. Only used to verify the
+     * ledger, the UI derives this information from player's lands.
+     */
+    @JsonIgnore
+    @Column(nullable = false, precision = MathUtil.PRECISION)
+    private Double investedAmount;
+
     @JsonIgnore
     @ManyToOne
     @JoinColumn(name = "game_code", referencedColumnName = "code", nullable = false)
@@ -122,33 +137,54 @@ public class Player implements Serializable {
         this.game = game;
         this.email = email;
         this.remainingSkipsCount = game.getAllowedSkipsCount();
+        resetLedger();
     }
 
     /**
-     * Transient field that calculate player's current cash based on their
-     * investments and rents.
+     * Aggregation of player's cash and investments' worth. Note that investments
+     * are reverted post bankruptcy and don't count towards net worth.
      *
-     * @return Player's Cash
+     * @return Player's Net Worth
      */
     @Transient
-    @JsonProperty("cash")
-    public double getCash() {
-        final var credits = game.getPlayerBaseCash() + MathUtil.sum(receivedRents, Rent::getRentAmount);
-        final var debits = MathUtil.sum(paidRents, Rent::getRentAmount) + MathUtil.sum(playerLands, PlayerLand::getBuyAmount);
-        return MathUtil.round(credits - debits);
+    public double getNetWorth() {
+        if (isBankrupt() || Objects.isNull(playerLands)) {
+            return cash;
+        }
+
+        double investments = 0d;
+        for (PlayerLand pl : playerLands) {
+            investments += pl.getLand().getMarketValue() * (pl.getOwnership() / 100);
+        }
+        return MathUtil.round(investments + cash);
     }
 
     /**
-     * Aggregation of player's cash and investments' worth. Note that investments
-     * are reverted post bankruptcy and don't count towards net worth.
+     * Re-derives player's cash from the base cash, rents and investments. Used to
+     * verify the running totals.
      *
-     * @return Player's Net Worth
+     * @param receivedRentsAmount Total of received rents
+     * @param paidRentsAmount     Total of paid rents
+     * @param investedAmount      Total of investments' buy amounts
+     * @return Player's Cash
      */
-    @Transient
-    public double getNetWorth() {
-        final var investments = isBankrupt() ? 0d
-                : MathUtil.sum(playerLands, pl -> pl.getLand().getMarketValue() * (pl.getOwnership() / 100));
-        return MathUtil.round(investments + getCash());
+    public double deriveCash(double receivedRentsAmount, double paidRentsAmount, double investedAmount) {
+        return MathUtil.round(game.getPlayerBaseCash() + receivedRentsAmount - paidRentsAmount - investedAmount);
+    }
+
+    /**
+     * Invalidates market values of player's lands, since bankrupt players'
+     * ownerships don't count towards them.
+     */
+    public void invalidateLandsMarketValue() {
+        if (Objects.nonNull(playerLands)) {
+            playerLands.forEach(pl -> pl.getLand().invalidateMarketValue());
+        }
+    }
+
+    public void resetLedger() {
+        cash = game.getPlayerBaseCash();
+        investedAmount = 0d;
     }
 
     @Transient
@@ -163,15 +199,23 @@ public class Player implements Serializable {
         return State.ACTIVE.equals(state);
     }
 
-    public void addLand(Land land, double ownership, double buyAmount) {
+    public PlayerLand addLand(Land land, double ownership, double buyAmount) {
+        buyAmount = MathUtil.round(buyAmount);
+        cash = MathUtil.round(cash - buyAmount);
+        investedAmount = MathUtil.round(investedAmount + buyAmount);
+
         playerLands = Objects.isNull(playerLands) ? new ArrayList<>() : playerLands;
         final var opt = playerLands.stream().filter(pl -> Objects.equals(pl.getLandId(), land.getId())).findFirst();
         if (opt.isEmpty()) {
-            playerLands.add(new PlayerLand(this, land, ownership, buyAmount));
-            return;
+            final var playerLand = new PlayerLand(this, land, ownership, buyAmount);
+            playerLands.add(playerLand);
+            land.addPlayerLand(playerLand);
+            return playerLand;
         }
         opt.get().setOwnership(opt.get().getOwnership() + ownership);
         opt.get().setBuyAmount(opt.get().getBuyAmount() + buyAmount);
+        land.invalidateMarketValue();
+        return opt.get();
     }
 
     public void addRent(Rent rent) {
@@ -179,6 +223,15 @@ public class Player implements Serializable {
             receivedRents = new ArrayList<>();
         }
         receivedRents.add(rent);
+        cash = MathUtil.round(cash + rent.getRentAmount());
+    }
+
+    public void addPaidRent(Rent rent) {
+        if (Objects.isNull(paidRents)) {
+            paidRents = new ArrayList<>();
+        }
+        paidRents.add(rent);
+        cash = MathUtil.round(cash - rent.getRentAmount());
     }
 
 }
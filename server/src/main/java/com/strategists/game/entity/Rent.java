@@ -18,6 +18,8 @@ import org.springframework.util.Assert;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Data
@@ -30,7 +32,7 @@ public class Rent implements Serializable {
     private static final long serialVersionUID = -2636338193178571280L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Column(nullable = false)
@@ -65,6 +67,32 @@ public class Rent implements Serializable {
         this.rentAmount = MathUtil.round(rentAmount);
     }
 
+    /**
+     * Calculates the rents the source player has to pay to the land's other
+     * owners. Bankrupt owners don't receive any rent.
+     *
+     * @param sourcePlayer Player who landed on the land
+     * @param land         Land the player landed on
+     * @return Rents to be paid
+     */
+    public static List<Rent> fromLand(Player sourcePlayer, Land land) {
+        final var rentFactor = sourcePlayer.getGame().getRentFactor();
+        final var rents = new ArrayList<Rent>();
+        for (PlayerLand pl : land.getPlayerLands()) {
+            final var targetPlayer = pl.getPlayer();
+
+            // Avoiding self rent payment or bankrupt players
+            if (Objects.equals(targetPlayer, sourcePlayer) || targetPlayer.isBankrupt()) {
+                continue;
+            }
+
+            // Calculating rent for the target player
+            final var rentAmount = rentFactor * (pl.getOwnership() / 100) * land.getMarketValue();
+            rents.add(new Rent(sourcePlayer, targetPlayer, land, rentAmount));
+        }
+        return rents;
+    }
+
     @Transient
     public Long getLandId() {
         return getLand().getId();
@@ -0,0 +1,71 @@
+package com.strategists.game.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A chunk of consecutive points of a player's or land's trend. Instead of a row
+ * per point, points are delta-encoded into the chunk's data and the chunk is
+ * re-written as points are added to it.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "trend_chunks")
+public class TrendChunk implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5838208914960372950L;
+
+    /**
+     * Maximum number of points in a chunk.
+     */
+    public static final int CAPACITY = 64;
+
+    @Getter
+    @AllArgsConstructor
+    public enum Series {
+        /**
+         * Player's cash and net worth.
+         */
+        PLAYER(2),
+
+        /**
+         * Land's market value.
+         */
+        LAND(1);
+
+        private final int columns;
+    }
+
+    @EmbeddedId
+    private TrendChunkId pk;
+
+    @ManyToOne
+    @JoinColumn(name = "game_code", referencedColumnName = "code", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Game game;
+
+    @Column(nullable = false)
+    private Integer size;
+
+    @ToString.Exclude
+    @Column(nullable = false, length = 4096)
+    private byte[] data;
+
+}
@@ -0,0 +1,39 @@
+package com.strategists.game.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendChunkId implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3112486604527180473L;
+
+    @Column(nullable = false, length = 8)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private TrendChunk.Series series;
+
+    /**
+     * Player's or Land's ID, depending on the series.
+     */
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Integer chunkIndex;
+
+}
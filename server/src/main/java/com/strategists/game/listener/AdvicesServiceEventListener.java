@@ -2,11 +2,11 @@ package com.strategists.game.listener;
 
 import com.strategists.game.listener.event.AdvicesServiceEvent;
 import com.strategists.game.service.AdvicesService;
+import com.strategists.game.service.GameExecutorService;
 import com.strategists.game.service.GameService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -24,10 +24,18 @@ public class AdvicesServiceEventListener {
     @Autowired
     private GameService gameService;
 
-    @Async
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onEvent(AdvicesServiceEvent event) {
         log.info("Handling AdvicesServiceEvent[type: {}] for game: {}", event.getType(), event.getGameCode());
+
+        // Generating advices in order with other commands of the game, so that two runs never race
+        gameExecutorService.submit(event.getGameCode(), () -> handle(event));
+    }
+
+    private void handle(AdvicesServiceEvent event) {
         try {
             final var game = gameService.getGameByCode(event.getGameCode());
             if (Objects.requireNonNull(event.getType()) == AdvicesServiceEvent.EventType.GENERATE) {
@@ -1,15 +1,15 @@
 package com.strategists.game.listener;
 
 import com.strategists.game.listener.event.SkipPlayerEvent;
+import com.strategists.game.service.GameExecutorService;
 import com.strategists.game.service.GameService;
 import com.strategists.game.service.PlayerService;
-import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Component
@@ -22,15 +22,30 @@ public class SkipPlayerEventListener {
     @Autowired
     private GameService gameService;
 
-    @Async
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @EventListener
-    @Transactional
     public void onEvent(SkipPlayerEvent event) {
         log.info("Handling SkipPlayerEvent for game: {}", event.getGameCode());
 
+        // Skipping the turn in order with other commands of the game, along with playing the next turn in one transaction
+        gameExecutorService.submit(event.getGameCode(), () -> transactionTemplate.executeWithoutResult(status -> skipPlayer(event)));
+    }
+
+    private void skipPlayer(SkipPlayerEvent event) {
         // Fetching game
         final var game = gameService.getGameByCode(event.getGameCode());
 
+        // Ignoring the event if the turn was already played before it ran
+        if (!game.isActive() || game.getCurrentStep() != event.getGameStep()) {
+            log.info("Ignoring stale SkipPlayerEvent for game: {}", game.getCode());
+            return;
+        }
+
         // Fetching the current player
         final var player = playerService.getCurrentPlayer(game);
         log.info("Skipping {}'s turn in game: {}", player.getUsername(), game.getCode());
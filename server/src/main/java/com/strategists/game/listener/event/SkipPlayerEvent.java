@@ -14,6 +14,7 @@ import java.time.Instant;
 public class SkipPlayerEvent implements SchedulableEvent {
 
     private String gameCode;
+    private int gameStep;
     private Instant scheduledTime;
 
     @Override
@@ -22,7 +23,7 @@ public class SkipPlayerEvent implements SchedulableEvent {
     }
 
     public static SkipPlayerEvent from(Game game) {
-        return new SkipPlayerEvent(game.getCode(), Instant.now().plusMillis(game.getSkipPlayerTimeout()));
+        return new SkipPlayerEvent(game.getCode(), game.getCurrentStep(), Instant.now().plusMillis(game.getSkipPlayerTimeout()));
     }
 
     public static String getUniqueIdentifier(String gameCode) {
@@ -10,6 +10,8 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
 
     List<Activity> findByGameOrderByIdDesc(Game game);
 
+    List<Activity> findByGameAndStepGreaterThanEqualOrderByIdDesc(Game game, Integer step);
+
     void deleteByGame(Game game);
 
 }
@@ -2,7 +2,13 @@ package com.strategists.game.repository;
 
 import com.strategists.game.entity.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface GameRepository extends JpaRepository<Game, String> {
 
+    @Query("SELECT g.code FROM Game g")
+    List<String> findAllCodes();
+
 }
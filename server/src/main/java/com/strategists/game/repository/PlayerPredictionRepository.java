@@ -12,6 +12,8 @@ public interface PlayerPredictionRepository extends JpaRepository<PlayerPredicti
 
     List<PlayerPrediction> findByGameOrderById(Game game);
 
+    List<PlayerPrediction> findByGameAndStepGreaterThanEqualOrderById(Game game, Integer step);
+
     void deleteByGame(Game game);
 
 }
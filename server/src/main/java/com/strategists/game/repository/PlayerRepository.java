@@ -4,6 +4,7 @@ import com.strategists.game.entity.Game;
 import com.strategists.game.entity.Player;
 import com.strategists.game.entity.Player.State;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,4 +33,13 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     List<Player> findByGameOrderByBankruptcyOrder(Game game);
 
+    @Query("SELECT COALESCE(SUM(r.rentAmount), 0) FROM Rent r WHERE r.targetPlayer.id = :playerId")
+    double sumReceivedRentsAmount(long playerId);
+
+    @Query("SELECT COALESCE(SUM(r.rentAmount), 0) FROM Rent r WHERE r.sourcePlayer.id = :playerId")
+    double sumPaidRentsAmount(long playerId);
+
+    @Query("SELECT COALESCE(SUM(pl.buyAmount), 0) FROM PlayerLand pl WHERE pl.pk.player.id = :playerId")
+    double sumInvestedAmount(long playerId);
+
 }
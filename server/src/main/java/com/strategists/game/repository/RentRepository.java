@@ -0,0 +1,8 @@
+package com.strategists.game.repository;
+
+import com.strategists.game.entity.Rent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RentRepository extends JpaRepository<Rent, Long> {
+
+}
@@ -0,0 +1,12 @@
+package com.strategists.game.repository;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.entity.TrendChunkId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendChunkRepository extends JpaRepository<TrendChunk, TrendChunkId> {
+
+    void deleteByGame(Game game);
+
+}
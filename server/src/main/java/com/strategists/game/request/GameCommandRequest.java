@@ -0,0 +1,20 @@
+package com.strategists.game.request;
+
+import lombok.Data;
+
+@Data
+public class GameCommandRequest {
+
+    public enum Type {
+        START,
+        TURN,
+        INVEST
+    }
+
+    // Client's ID for the command, echoed back in the command's response
+    private Long id;
+    private Type type;
+    private Long landId;
+    private Double ownership;
+
+}
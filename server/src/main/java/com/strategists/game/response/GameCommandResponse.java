@@ -0,0 +1,16 @@
+package com.strategists.game.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GameCommandResponse {
+
+    private Long commandId;
+
+    private boolean success;
+
+    private String message;
+
+}
@@ -0,0 +1,20 @@
+package com.strategists.game.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GameExecutorMetricsResponse {
+
+    private int mailboxesCount;
+
+    private long submittedCount;
+
+    private long completedCount;
+
+    private long rejectedCount;
+
+    private int maxQueueDepth;
+
+}
@@ -0,0 +1,43 @@
+package com.strategists.game.response;
+
+import com.strategists.game.entity.Activity;
+import com.strategists.game.entity.Advice;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.entity.PlayerPrediction;
+import com.strategists.game.entity.Trend;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Changes of a game since a client's last seen step. Game, players, lands and
+ * advices are always current, while activities, trends and predictions only
+ * include the ones from the step (inclusive) onward. If <code>full</code> is
+ * set, the response is a full snapshot of the game instead.
+ */
+@Getter
+@Builder
+public class GameSyncResponse {
+
+    private boolean full;
+
+    private int fromStep;
+
+    private Game game;
+
+    private List<Player> players;
+
+    private List<Land> lands;
+
+    private List<Activity> activities;
+
+    private List<Trend> trends;
+
+    private List<PlayerPrediction> playerPredictions;
+
+    private List<Advice> advices;
+
+}
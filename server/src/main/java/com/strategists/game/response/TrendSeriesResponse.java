@@ -0,0 +1,51 @@
+package com.strategists.game.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.state.TrendSeries;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Player's or land's trend column-wise, i.e. the i-th values of each array make
+ * the i-th point of the trend.
+ */
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class TrendSeriesResponse {
+
+    private Long playerId;
+
+    private Long landId;
+
+    private int[] steps;
+
+    private double[] cash;
+
+    private double[] netWorth;
+
+    private double[] marketValue;
+
+    public static TrendSeriesResponse from(TrendSeries series) {
+        final var size = series.size();
+        final var steps = new int[size];
+        final var columns = new double[series.getSeries().getColumns()][size];
+        for (int point = 0; point < size; point++) {
+            steps[point] = series.getStep(point);
+            for (int column = 0; column < columns.length; column++) {
+                columns[column][point] = series.getValue(column, point);
+            }
+        }
+
+        final var builder = TrendSeriesResponse.builder().steps(steps);
+        if (TrendChunk.Series.PLAYER.equals(series.getSeries())) {
+            builder.playerId(series.getEntityId()).cash(columns[0]).netWorth(columns[1]);
+        } else {
+            builder.landId(series.getEntityId()).marketValue(columns[0]);
+        }
+        return builder.build();
+    }
+
+}
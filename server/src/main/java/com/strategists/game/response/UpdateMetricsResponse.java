@@ -0,0 +1,32 @@
+package com.strategists.game.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UpdateMetricsResponse {
+
+    private int gamesCount;
+
+    private int connectionsCount;
+
+    private int webSocketsCount;
+
+    private long droppedCount;
+
+    private long evictedCount;
+
+    private long replayedCount;
+
+    private long resyncedCount;
+
+    private long pingedCount;
+
+    // Most connected players of a game
+    private int maxConnectionsCount;
+
+    // Most pending frames across a game's subscribers
+    private int maxQueueDepth;
+
+}
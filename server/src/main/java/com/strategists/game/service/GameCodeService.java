@@ -0,0 +1,9 @@
+package com.strategists.game.service;
+
+public interface GameCodeService {
+
+    String allocateCode();
+
+    void releaseCode(String code);
+
+}
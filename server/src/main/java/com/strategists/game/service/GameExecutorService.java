@@ -0,0 +1,19 @@
+package com.strategists.game.service;
+
+import com.strategists.game.response.GameExecutorMetricsResponse;
+
+import java.util.function.Supplier;
+
+public interface GameExecutorService {
+
+    <T> T execute(String code, Supplier<T> command);
+
+    void execute(String code, Runnable command);
+
+    void submit(String code, Runnable command);
+
+    void removeMailbox(String code);
+
+    GameExecutorMetricsResponse getMetrics();
+
+}
@@ -0,0 +1,15 @@
+package com.strategists.game.service;
+
+import com.strategists.game.entity.GameMap;
+
+import java.util.Collection;
+
+public interface GameMapService {
+
+    GameMap getGameMap(String name);
+
+    Collection<GameMap> getGameMaps();
+
+    void reloadGameMaps();
+
+}
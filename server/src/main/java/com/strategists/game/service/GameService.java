@@ -4,6 +4,10 @@ import com.strategists.game.entity.Game;
 import com.strategists.game.entity.Player;
 import com.strategists.game.request.GoogleOAuthCredential;
 import com.strategists.game.response.GameResponse;
+import com.strategists.game.response.GameSyncResponse;
+import com.strategists.game.response.TrendSeriesResponse;
+
+import java.util.List;
 
 public interface GameService {
 
@@ -13,6 +17,10 @@ public interface GameService {
 
     GameResponse getGameResponseByGame(Game game);
 
+    GameSyncResponse getGameSyncResponse(Game game, int fromStep);
+
+    List<TrendSeriesResponse> getTrendSeries(Game game);
+
     void startGame(Game game);
 
     Player playTurn(Game game);
@@ -0,0 +1,34 @@
+package com.strategists.game.service;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.state.GameState;
+
+import java.util.List;
+
+public interface GameStateService {
+
+    GameState createGameState(Game game);
+
+    GameState getGameState(String code);
+
+    GameState getGameState(Game game);
+
+    GameState getGameStateByPlayerId(long playerId);
+
+    GameState getGameStateByLandId(long landId);
+
+    void addPlayer(Player player);
+
+    void removePlayer(Player player);
+
+    void addLands(Game game, List<Land> lands);
+
+    void flushGameState(Game game);
+
+    void flushGameStates();
+
+    void evictGameState(Game game);
+
+}
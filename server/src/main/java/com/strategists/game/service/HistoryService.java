@@ -1,7 +1,7 @@
 package com.strategists.game.service;
 
 import com.strategists.game.entity.Game;
-import com.strategists.game.update.payload.UpdatePayload;
+import com.strategists.game.update.UpdateFrame;
 
 import java.util.List;
 import java.util.Map;
@@ -10,7 +10,9 @@ public interface HistoryService {
 
     List<Map<String, Object>> getHistory(Game game);
 
-    void appendUpdatePayload(Game game, UpdatePayload<?> payload);
+    void appendUpdateFrame(Game game, UpdateFrame frame);
+
+    void invalidateHistory(Game game);
 
     void exportHistory(Game game);
 
@@ -25,6 +25,8 @@ public interface LandService {
 
     void resetLands(Game game);
 
+    void updateMarketValues(Game game);
+
     List<Trend> updateLandTrends(Game game);
 
 }
@@ -0,0 +1,9 @@
+package com.strategists.game.service;
+
+public interface NodeService {
+
+    boolean isOwner(String gameCode);
+
+    String getOwnerUrl(String gameCode);
+
+}
@@ -18,6 +18,13 @@ public interface PlayerService {
 
     Player getPlayerById(long id);
 
+    /**
+     * Resolves a player of the game for serving its updates. The player is read
+     * from the database unless this node owns the game, as other nodes don't keep
+     * the game's state.
+     */
+    Player getPlayerByGameCodeAndId(String code, long id);
+
     boolean existsByEmail(String email);
 
     Player getPlayerByEmail(String email);
@@ -42,7 +49,7 @@ public interface PlayerService {
 
     void invest(Player player, Land land, double ownership);
 
-    void payRent(Rent rent);
+    void payRents(List<Rent> rents);
 
     void bankruptPlayer(Player player);
 
@@ -50,4 +57,13 @@ public interface PlayerService {
 
     List<Trend> updatePlayerTrends(Game game);
 
+    /**
+     * Compares the players' running cash and invested amount with the totals of
+     * their rows, logging a warning for every player whose ledger doesn't match.
+     * The game's state is expected to be flushed.
+     *
+     * @return <code>true</code> if every player's ledger matches the rows
+     */
+    boolean verifyLedgers(Game game);
+
 }
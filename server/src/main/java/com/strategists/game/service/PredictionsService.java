@@ -13,6 +13,8 @@ public interface PredictionsService {
 
     List<PlayerPrediction> getPlayerPredictionsByGame(Game game);
 
+    List<PlayerPrediction> getPlayerPredictionsByGame(Game game, int fromStep);
+
     void clearPlayerPredictions(Game game);
 
 }
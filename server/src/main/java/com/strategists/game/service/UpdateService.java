@@ -2,17 +2,22 @@ package com.strategists.game.service;
 
 import com.strategists.game.entity.Game;
 import com.strategists.game.entity.Player;
-import com.strategists.game.update.payload.UpdatePayload;
+import com.strategists.game.response.UpdateMetricsResponse;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.WebSocketSession;
 
 public interface UpdateService {
 
-    SseEmitter registerEmitter(Player player);
+    SseEmitter registerEmitter(Player player, String lastEventId);
 
-    void closeEmitters(Game game);
+    void registerSession(Player player, WebSocketSession session, boolean binary);
+
+    void removeSession(Player player, WebSocketSession session);
 
-    void sendUpdate(Game game, UpdatePayload<?> payload);
+    void closeEmitters(Game game);
 
     void sendPing();
 
+    UpdateMetricsResponse getMetrics();
+
 }
@@ -9,8 +9,8 @@ import com.strategists.game.repository.AdviceRepository;
 import com.strategists.game.service.AdvicesService;
 import com.strategists.game.service.LandService;
 import com.strategists.game.service.PlayerService;
-import com.strategists.game.update.UpdateMapping;
-import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.UpdatePublisher;
+import com.strategists.game.update.event.AdviceUpdateEvent;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
@@ -40,13 +40,15 @@ public class AdvicesServiceImpl implements AdvicesService {
     @Autowired
     private List<AbstractAdviceHandler> handlers;
 
+    @Autowired
+    private UpdatePublisher updatePublisher;
+
     @PostConstruct
     public void setup() {
         log.info("Advices enabled! Total handlers registered: {}", handlers.size());
     }
 
     @Override
-    @UpdateMapping(UpdateType.ADVICE)
     public List<Advice> generateAdvices(Game game) {
         log.info("Generating advices for game: {}", game.getCode());
 
@@ -76,7 +78,9 @@ public class AdvicesServiceImpl implements AdvicesService {
         }
 
         // Saving new and updated records
-        return adviceRepository.saveAll(context.getAdvices());
+        final var advices = adviceRepository.saveAll(context.getAdvices());
+        updatePublisher.publish(new AdviceUpdateEvent(game, advices));
+        return advices;
     }
 
     @Override
@@ -85,14 +89,15 @@ public class AdvicesServiceImpl implements AdvicesService {
     }
 
     @Override
-    @UpdateMapping(UpdateType.ADVICE)
     public List<Advice> markPlayerAdvicesViewed(Player player) {
         log.info("Marking {}'s advices as viewed for game: {}", player.getUsername(), player.getGame().getCode());
         final var advices = adviceRepository.findByPlayerAndViewed(player, false);
         if (CollectionUtils.isEmpty(advices)) {
             return List.of();
         }
-        return adviceRepository.saveAll(advices.stream().peek(advice -> advice.setViewed(true)).toList());
+        final var viewed = adviceRepository.saveAll(advices.stream().peek(advice -> advice.setViewed(true)).toList());
+        updatePublisher.publish(new AdviceUpdateEvent(player.getGame(), viewed));
+        return viewed;
     }
 
     @Override
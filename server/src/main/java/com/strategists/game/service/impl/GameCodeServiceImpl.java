@@ -0,0 +1,137 @@
+package com.strategists.game.service.impl;
+
+import com.strategists.game.configuration.properties.GameConfigurationProperties;
+import com.strategists.game.repository.GameRepository;
+import com.strategists.game.service.GameCodeService;
+import com.strategists.game.service.NodeService;
+import com.strategists.game.util.SparseBitSet;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Allocates games' codes from the space of all upper-case codes of the configured
+ * length. Codes in use are tracked in a sparse bitmap, rebuilt from the games'
+ * table on start-up, so a free code is found without querying the database.
+ * Only codes of games owned by this node are allocated.
+ */
+@Log4j2
+@Service
+public class GameCodeServiceImpl implements GameCodeService {
+
+    private static final int ALPHABET_SIZE = 26;
+
+    @Autowired
+    private GameConfigurationProperties gameConfigurationProperties;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private NodeService nodeService;
+
+    // Guarded by this instance's monitor
+    private SparseBitSet codes;
+
+    @PostConstruct
+    public void setup() {
+        final var codeLength = gameConfigurationProperties.codeLength();
+        codes = new SparseBitSet(pow(ALPHABET_SIZE, codeLength));
+
+        // Marking codes of existing games as used
+        for (String code : gameRepository.findAllCodes()) {
+            if (isValid(code)) {
+                codes.set(toIndex(code));
+            }
+        }
+        log.info("Game codes in use: {} of {}", codes.cardinality(), codes.size());
+    }
+
+    @Override
+    public String allocateCode() {
+        final String code;
+        synchronized (this) {
+            // Picking a random code, or the next free one after it if it's taken
+            var index = codes.nextClearBit(ThreadLocalRandom.current().nextLong(codes.size()));
+            Assert.state(index >= 0, "No game codes available!");
+
+            // Skipping codes owned by other nodes, so that the game is created on its owner
+            for (long attempts = 1; !nodeService.isOwner(toCode(index)); attempts++) {
+                Assert.state(attempts < codes.size(), "No game codes available for this node!");
+                index = codes.nextClearBit((index + 1) % codes.size());
+            }
+
+            codes.set(index);
+            code = toCode(index);
+        }
+
+        // Releasing the code if the game couldn't be created
+        afterCompletion(false, () -> release(code));
+        return code;
+    }
+
+    @Override
+    public void releaseCode(String code) {
+        // Releasing the code only once the game's deletion is committed
+        afterCompletion(true, () -> release(code));
+    }
+
+    private synchronized void release(String code) {
+        if (isValid(code)) {
+            codes.clear(toIndex(code));
+        }
+    }
+
+    private boolean isValid(String code) {
+        return code.length() == gameConfigurationProperties.codeLength() && code.chars().allMatch(c -> c >= 'A' && c <= 'Z');
+    }
+
+    private void afterCompletion(boolean committed, Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (committed) {
+                runnable.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (committed == (status == STATUS_COMMITTED)) {
+                    runnable.run();
+                }
+            }
+        });
+    }
+
+    private long toIndex(String code) {
+        var index = 0L;
+        for (int i = 0; i < code.length(); i++) {
+            index = index * ALPHABET_SIZE + (code.charAt(i) - 'A');
+        }
+        return index;
+    }
+
+    private String toCode(long index) {
+        final var chars = new char[gameConfigurationProperties.codeLength()];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('A' + index % ALPHABET_SIZE);
+            index /= ALPHABET_SIZE;
+        }
+        return new String(chars);
+    }
+
+    private static long pow(int base, int exponent) {
+        var result = 1L;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.strategists.game.service.impl;
+
+import com.strategists.game.configuration.properties.GameExecutorConfigurationProperties;
+import com.strategists.game.response.GameExecutorMetricsResponse;
+import com.strategists.game.service.GameExecutorService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Log4j2
+@Service
+public class GameExecutorServiceImpl implements GameExecutorService {
+
+    /**
+     * Game code of the mailbox being drained by the current thread. Commands
+     * executed from within a mailbox run in-place instead of waiting on themselves.
+     */
+    private static final ThreadLocal<String> CURRENT_GAME_CODE = new ThreadLocal<>();
+
+    @Autowired
+    private GameExecutorConfigurationProperties properties;
+
+    // Game Code -> Mailbox
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    @PostConstruct
+    public void setup() {
+        log.info(properties);
+    }
+
+    @Override
+    public <T> T execute(String code, Supplier<T> command) {
+        // Running command in-place if already on the game's mailbox
+        if (Objects.equals(code, CURRENT_GAME_CODE.get())) {
+            return command.get();
+        }
+
+        final var task = new FutureTask<>(command::get);
+        offer(code, task);
+        try {
+            return task.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting on command for game: " + code, ex);
+        }
+    }
+
+    @Override
+    public void execute(String code, Runnable command) {
+        execute(code, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit(String code, Runnable command) {
+        offer(code, () -> {
+            try {
+                command.run();
+            } catch (RuntimeException ex) {
+                log.error("Command failed for game: {}", code, ex);
+            }
+        });
+    }
+
+    @Override
+    public void removeMailbox(String code) {
+        // Removing the mailbox once drained, as the command removing it might be running on it
+        final var mailbox = mailboxes.get(code);
+        if (Objects.nonNull(mailbox)) {
+            mailbox.retired = true;
+            mailbox.removeIfDrained();
+        }
+    }
+
+    @Override
+    public GameExecutorMetricsResponse getMetrics() {
+        // Only reporting aggregates, as games' codes are enough to join their lobbies
+        return GameExecutorMetricsResponse.builder()
+                .mailboxesCount(mailboxes.size())
+                .submittedCount(submittedCount.sum())
+                .completedCount(completedCount.sum())
+                .rejectedCount(rejectedCount.sum())
+                .maxQueueDepth(mailboxes.values().stream().mapToInt(mb -> mb.queue.size()).max().orElse(0))
+                .build();
+    }
+
+    private void offer(String code, Runnable task) {
+        // Offering while holding the game's entry, so that a mailbox is never removed with pending tasks
+        final var undrained = new Mailbox[1];
+        mailboxes.compute(code, (key, mailbox) -> {
+            final var target = Objects.isNull(mailbox) ? new Mailbox(code) : mailbox;
+            if (target.offer(task)) {
+                undrained[0] = target;
+            }
+            return target;
+        });
+
+        // Starting the drain once the mailbox is in place
+        if (Objects.nonNull(undrained[0])) {
+            Thread.ofVirtual().name("game-" + code).start(undrained[0]::drain);
+        }
+    }
+
+    /**
+     * Bounded queue of a game's commands, drained in order by at most one virtual
+     * thread at a time. The thread is only started when commands are pending. A
+     * retired mailbox is removed once drained, later commands getting a new one.
+     */
+    private class Mailbox {
+
+        private final String code;
+        private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>(properties.mailboxCapacity());
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean retired;
+
+        private Mailbox(String code) {
+            this.code = code;
+        }
+
+        /**
+         * @return <code>true</code> if a drain needs to be started, no other thread draining the mailbox
+         */
+        private boolean offer(Runnable task) {
+            if (!queue.offer(task)) {
+                rejectedCount.increment();
+                throw new RejectedExecutionException("Too many pending commands for game: " + code);
+            }
+            submittedCount.increment();
+            return draining.compareAndSet(false, true);
+        }
+
+        private void drain() {
+            CURRENT_GAME_CODE.set(code);
+            try {
+                do {
+                    Runnable task;
+                    while (Objects.nonNull(task = queue.poll())) {
+                        task.run();
+                        completedCount.increment();
+                    }
+                    draining.set(false);
+
+                    // Re-checking for a task offered after the last poll, but before releasing the mailbox
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } finally {
+                CURRENT_GAME_CODE.remove();
+            }
+
+            if (retired) {
+                removeIfDrained();
+            }
+        }
+
+        private void removeIfDrained() {
+            mailboxes.computeIfPresent(code, (key, mailbox) ->
+                    mailbox == this && queue.isEmpty() && !draining.get() ? null : mailbox);
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.strategists.game.service.impl;
+
+import com.strategists.game.configuration.properties.GameMapsConfigurationProperties;
+import com.strategists.game.entity.GameMap;
+import com.strategists.game.service.GameMapService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Service
+public class GameMapServiceImpl implements GameMapService {
+
+    @Autowired
+    private GameMapsConfigurationProperties properties;
+
+    @Autowired
+    private ResourcePatternResolver resourcePatternResolver;
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    // Map's file name (without extension) -> Parsed map
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // Map's file name (without extension) -> Last modified time of the invalid file
+    private final Map<String, Long> invalidFiles = new HashMap<>();
+
+    @PostConstruct
+    public void setup() {
+        log.info(properties);
+        reloadGameMaps();
+        Assert.state(!entries.isEmpty(), "No game maps found at: " + properties.location());
+
+        // Reloading changed map files in the background
+        if (properties.reloadInterval() > 0) {
+            scheduler.scheduleWithFixedDelay(this::reloadGameMaps, Duration.ofMillis(properties.reloadInterval()));
+        }
+    }
+
+    @Override
+    public GameMap getGameMap(String name) {
+        final var entry = entries.get(name);
+        Assert.notNull(entry, name + " game map doesn't exist!");
+        return entry.gameMap();
+    }
+
+    @Override
+    public Collection<GameMap> getGameMaps() {
+        return entries.values().stream().map(Entry::gameMap).toList();
+    }
+
+    @Override
+    public synchronized void reloadGameMaps() {
+        final Resource[] resources;
+        try {
+            resources = resourcePatternResolver.getResources(properties.getPattern());
+        } catch (IOException ex) {
+            log.error("Unable to list game maps at: {}", properties.location(), ex);
+            return;
+        }
+
+        final var names = new HashSet<String>();
+        for (Resource resource : resources) {
+            final var fileName = Objects.requireNonNullElse(resource.getFilename(), "");
+            final var name = fileName.substring(0, fileName.lastIndexOf('.'));
+            names.add(name);
+
+            // Skipping maps that haven't changed since they were last parsed
+            final var lastModified = getLastModified(resource);
+            final var entry = entries.get(name);
+            if ((Objects.nonNull(entry) && entry.lastModified() == lastModified)
+                    || Objects.equals(invalidFiles.get(name), lastModified)) {
+                continue;
+            }
+
+            // Keeping the previously parsed map if the changed file is invalid
+            try (final var json = resource.getInputStream()) {
+                final var gameMap = GameMap.template(json);
+                entries.put(name, new Entry(gameMap, lastModified));
+                invalidFiles.remove(name);
+                log.info("{} game map '{}' with {} lands", Objects.isNull(entry) ? "Loaded" : "Reloaded", name, gameMap.getLands().size());
+            } catch (Exception ex) {
+                invalidFiles.put(name, lastModified);
+                log.error("Unable to load game map '{}'! Reason: {}", name, ex.getMessage());
+            }
+        }
+
+        // Dropping maps whose files were removed
+        invalidFiles.keySet().retainAll(names);
+        entries.keySet().removeIf(name -> {
+            final var removed = !names.contains(name);
+            if (removed) {
+                log.warn("Game map '{}' removed", name);
+            }
+            return removed;
+        });
+    }
+
+    private long getLastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private record Entry(GameMap gameMap, long lastModified) {
+    }
+
+}
@@ -5,21 +5,27 @@ import com.strategists.game.configuration.properties.GameConfigurationProperties
 import com.strategists.game.configuration.properties.SkipPlayerConfigurationProperties;
 import com.strategists.game.entity.Game;
 import com.strategists.game.entity.Game.State;
-import com.strategists.game.entity.GameMap;
 import com.strategists.game.entity.Player;
-import com.strategists.game.entity.Rent;
 import com.strategists.game.repository.ActivityRepository;
 import com.strategists.game.repository.GameRepository;
-import com.strategists.game.repository.TrendRepository;
+import com.strategists.game.repository.TrendChunkRepository;
 import com.strategists.game.request.GoogleOAuthCredential;
 import com.strategists.game.response.GameResponse;
+import com.strategists.game.response.GameSyncResponse;
+import com.strategists.game.response.TrendSeriesResponse;
 import com.strategists.game.service.AdvicesService;
+import com.strategists.game.service.GameCodeService;
+import com.strategists.game.service.GameMapService;
 import com.strategists.game.service.GameService;
+import com.strategists.game.service.GameStateService;
 import com.strategists.game.service.LandService;
 import com.strategists.game.service.PlayerService;
 import com.strategists.game.service.PredictionsService;
-import com.strategists.game.update.UpdateMapping;
-import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.UpdatePublisher;
+import com.strategists.game.update.event.CleanUpUpdateEvent;
+import com.strategists.game.update.event.CreateUpdateEvent;
+import com.strategists.game.update.event.ResetUpdateEvent;
+import com.strategists.game.update.event.WinUpdateEvent;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
@@ -28,7 +34,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
-import java.io.File;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -51,11 +57,17 @@ public class GameServiceImpl implements GameService {
     private CleanUpConfigurationProperties cleanUpConfigurationProperties;
 
     @Autowired
-    private Map<String, File> gameMapFiles;
+    private GameMapService gameMapService;
+
+    @Autowired
+    private GameCodeService gameCodeService;
 
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private GameStateService gameStateService;
+
     @Autowired
     private PlayerService playerService;
 
@@ -66,7 +78,10 @@ public class GameServiceImpl implements GameService {
     private ActivityRepository activityRepository;
 
     @Autowired
-    private TrendRepository trendRepository;
+    private TrendChunkRepository trendChunkRepository;
+
+    @Autowired
+    private UpdatePublisher updatePublisher;
 
     @Autowired(required = false)
     private PredictionsService predictionsService;
@@ -82,7 +97,6 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    @UpdateMapping(UpdateType.CREATE)
     public GameResponse createGame(GoogleOAuthCredential credential) {
         final var email = credential.getEmail();
 
@@ -91,8 +105,7 @@ public class GameServiceImpl implements GameService {
         Assert.state(!playerService.existsByEmail(email), email + " already part of a game!");
 
         // Preparing game map's instance
-        final var gameMap = GameMap.from(gameMapFiles.get(gameConfigurationProperties.defaultMap()));
-        Assert.notNull(gameMap, gameConfigurationProperties.defaultMap() + " game map doesn't exist!");
+        final var gameMap = gameMapService.getGameMap(gameConfigurationProperties.defaultMap());
 
         // Creating game instance
         var game = new Game();
@@ -122,10 +135,9 @@ public class GameServiceImpl implements GameService {
         }
 
         // Setting up share-able code for game
-        do {
-            game.setCode(generateCode());
-        } while (gameRepository.existsById(game.getCode()));
+        game.setCode(gameCodeService.allocateCode());
         game = gameRepository.save(game);
+        gameStateService.createGameState(game);
         log.info("Created game: {}", game);
 
         // Saving lands associated with the game
@@ -135,14 +147,14 @@ public class GameServiceImpl implements GameService {
         playerService.addPlayer(game, email, credential.getName(), true);
 
         // Returning GameResponse for update
-        return getGameResponseByGame(game);
+        final var gameResponse = getGameResponseByGame(game);
+        updatePublisher.publish(new CreateUpdateEvent(gameResponse));
+        return gameResponse;
     }
 
     @Override
     public Game getGameByCode(String code) {
-        final var opt = gameRepository.findById(code);
-        Assert.isTrue(opt.isPresent(), "No game found for code: " + code);
-        return opt.get();
+        return gameStateService.getGameState(code).getGame();
     }
 
     @Override
@@ -153,7 +165,7 @@ public class GameServiceImpl implements GameService {
                 .players(playerService.getPlayersByGame(game))
                 .lands(landService.getLandsByGame(game))
                 .activities(activityRepository.findByGameOrderByIdDesc(game))
-                .trends(trendRepository.findByGameOrderByIdAsc(game));
+                .trends(gameStateService.getGameState(game).getTrends());
 
         // Adding predictions, if enabled
         if (Objects.nonNull(predictionsService)) {
@@ -170,63 +182,60 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    public void startGame(Game game) {
+    public GameSyncResponse getGameSyncResponse(Game game, int fromStep) {
+        // Falling back to the full game if the client is too far behind, or ahead after a reset
+        final var full = fromStep < 0
+                || fromStep > game.getCurrentStep()
+                || game.getCurrentStep() - fromStep > gameConfigurationProperties.syncMaxStepGap();
+        final var step = full ? 0 : fromStep;
+
+        // Creating response with changes since the step
+        final var builder = GameSyncResponse.builder()
+                .full(full)
+                .fromStep(step)
+                .game(game)
+                .players(playerService.getPlayersByGame(game))
+                .lands(landService.getLandsByGame(game))
+                .activities(full
+                        ? activityRepository.findByGameOrderByIdDesc(game)
+                        : activityRepository.findByGameAndStepGreaterThanEqualOrderByIdDesc(game, step))
+                .trends(gameStateService.getGameState(game).getTrends(full ? Integer.MIN_VALUE : step));
 
-        // Changing game's state and other information
-        game.setCurrentStep(1);
-        game.setState(State.ACTIVE);
-        game = gameRepository.save(game);
+        // Adding predictions, if enabled
+        if (Objects.nonNull(predictionsService)) {
+            builder.playerPredictions(full
+                    ? predictionsService.getPlayerPredictionsByGame(game)
+                    : predictionsService.getPlayerPredictionsByGame(game, step));
+        }
 
-        // Assigning turn
-        playerService.assignTurn(game);
+        // Adding advice, if enabled
+        if (Objects.nonNull(advicesService)) {
+            builder.advices(advicesService.getAdvicesByGame(game));
+        }
 
-        // Updating initial trends
-        updateTrends(game);
+        return builder.build();
     }
 
     @Override
-    @UpdateMapping(UpdateType.WIN)
-    public Player playTurn(Game game) {
-
-        // Updating game's current step
-        game.setCurrentStep(game.getCurrentStep() + 1);
-        game = gameRepository.save(game);
-
-        // Checking if game has ended
-        final var winner = getWinnerPlayer(game);
-        if (winner.isPresent()) {
-            return winner.get();
-        }
-
-        // Assigning turn to next player
-        final var player = playerService.nextPlayer(playerService.getCurrentPlayer(game));
-
-        // Moving the current player to a new position
-        final var land = playerService.movePlayer(player, RANDOM.nextInt(game.getDiceSize()) + 1);
-
-        // Calculating rents on the moved land
-        final var rents = landService.getPlayerRentsByLand(player, land);
-
-        // Paying rent to players on current land
-        for (Rent rent : rents) {
-            playerService.payRent(rent);
-        }
-
-        // Updating trends
-        updateTrends(game);
+    public List<TrendSeriesResponse> getTrendSeries(Game game) {
+        return gameStateService.getGameState(game).getTrendStore().mapSeries(TrendSeriesResponse::from);
+    }
 
-        // Checking if player is bankrupt
-        if (player.getCash() <= 0) {
-            playerService.bankruptPlayer(player);
-            return playTurn(game);
-        }
+    @Override
+    public void startGame(Game game) {
+        updatePublisher.batch(() -> start(game));
+    }
 
-        // No winner declared
-        return null;
+    @Override
+    public Player playTurn(Game game) {
+        return updatePublisher.batch(() -> {
+            final var winner = play(game);
+            updatePublisher.publish(new WinUpdateEvent(game, winner));
+            return winner;
+        });
     }
 
     @Override
-    @UpdateMapping(UpdateType.RESET)
     public GameResponse resetGame(Game game) {
         log.info("Resetting game: {}", game.getCode());
 
@@ -235,7 +244,11 @@ public class GameServiceImpl implements GameService {
         game.setState(State.LOBBY);
         game.setCreatedAt(System.currentTimeMillis());
         game.setEndedAt(null);
-        game = gameRepository.save(game);
+
+        // Flushing pending changes before deleting rows directly
+        final var state = gameStateService.getGameState(game);
+        state.markDirty(game);
+        gameStateService.flushGameState(game);
 
         // Resetting players
         playerService.resetPlayers(game);
@@ -247,7 +260,8 @@ public class GameServiceImpl implements GameService {
         activityRepository.deleteByGame(game);
 
         // Resetting trends
-        trendRepository.deleteByGame(game);
+        trendChunkRepository.deleteByGame(game);
+        state.clearTrends();
 
         // Resetting predictions, if enabled
         if (Objects.nonNull(predictionsService)) {
@@ -260,20 +274,81 @@ public class GameServiceImpl implements GameService {
         }
 
         // Returning GameResponse for update
-        return getGameResponseByGame(game);
+        final var gameResponse = getGameResponseByGame(game);
+        updatePublisher.publish(new ResetUpdateEvent(gameResponse));
+        return gameResponse;
     }
 
     @Override
-    @UpdateMapping(UpdateType.CLEAN_UP)
     public void deleteGame(Game game) {
         log.info("Cleaning up data for game: {}", game.getCode());
 
+        // Discarding game's state before deleting its rows
+        gameStateService.evictGameState(game);
+
         // Deleting game record to cascade it to players and lands
         try {
             gameRepository.delete(game);
         } catch (EmptyResultDataAccessException ex) {
             // suppress exception
         }
+
+        // Making the game's code available for new games
+        gameCodeService.releaseCode(game.getCode());
+        updatePublisher.publish(new CleanUpUpdateEvent(game));
+    }
+
+    private void start(Game game) {
+
+        // Changing game's state and other information
+        game.setCurrentStep(1);
+        game.setState(State.ACTIVE);
+        gameStateService.getGameState(game).markDirty(game);
+
+        // Assigning turn
+        playerService.assignTurn(game);
+
+        // Updating initial trends
+        updateTrends(game);
+    }
+
+    private Player play(Game game) {
+
+        // Updating game's current step
+        game.setCurrentStep(game.getCurrentStep() + 1);
+        gameStateService.getGameState(game).markDirty(game);
+
+        // Checking if game has ended
+        final var winner = getWinnerPlayer(game);
+        if (winner.isPresent()) {
+            return winner.get();
+        }
+
+        // Assigning turn to next player
+        final var player = playerService.nextPlayer(playerService.getCurrentPlayer(game));
+
+        // Moving the current player to a new position
+        final var land = playerService.movePlayer(player, RANDOM.nextInt(game.getDiceSize()) + 1);
+
+        // Calculating rents on the moved land
+        final var rents = landService.getPlayerRentsByLand(player, land);
+
+        // Paying rent to players on current land
+        if (!rents.isEmpty()) {
+            playerService.payRents(rents);
+        }
+
+        // Updating trends
+        updateTrends(game);
+
+        // Checking if player is bankrupt
+        if (player.getCash() <= 0) {
+            playerService.bankruptPlayer(player);
+            return play(game);
+        }
+
+        // No winner declared
+        return null;
     }
 
     private Optional<Player> getWinnerPlayer(Game game) {
@@ -285,7 +360,7 @@ public class GameServiceImpl implements GameService {
         // Setting end at time for the game if not set before
         if (Objects.isNull(game.getEndedAt())) {
             game.setEndedAt(System.currentTimeMillis());
-            game = gameRepository.save(game);
+            gameStateService.getGameState(game).markDirty(game);
         }
 
         final var winner = activePlayers.getFirst();
@@ -294,17 +369,9 @@ public class GameServiceImpl implements GameService {
     }
 
     private void updateTrends(Game game) {
+        landService.updateMarketValues(game);
         playerService.updatePlayerTrends(game);
         landService.updateLandTrends(game);
     }
 
-    private String generateCode() {
-        final var builder = new StringBuilder();
-        for (int i = 0; i < gameConfigurationProperties.codeLength(); i++) {
-            final var c = (char) ('A' + RANDOM.nextInt(26));
-            builder.append(c);
-        }
-        return builder.toString();
-    }
-
 }
@@ -0,0 +1,353 @@
+package com.strategists.game.service.impl;
+
+import com.strategists.game.configuration.properties.GameStateConfigurationProperties;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.repository.LandRepository;
+import com.strategists.game.repository.PlayerRepository;
+import com.strategists.game.service.GameStateService;
+import com.strategists.game.state.GameState;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Service
+public class GameStateServiceImpl implements GameStateService {
+
+    @Autowired
+    private GameStateConfigurationProperties properties;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    // Game Code -> Game's state
+    private final Map<String, GameState> states = new ConcurrentHashMap<>();
+
+    // Player ID -> Game Code
+    private final Map<Long, String> playerGameCodes = new ConcurrentHashMap<>();
+
+    // Land ID -> Game Code
+    private final Map<Long, String> landGameCodes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void setup() {
+        log.info(properties);
+
+        // Flushing games' states in the background
+        scheduler.scheduleWithFixedDelay(this::flushGameStates, Duration.ofMillis(properties.flushInterval()));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        log.info("Flushing {} game state(s) before shutting down", states.size());
+        states.values().forEach(this::flush);
+    }
+
+    @Override
+    @Transactional
+    public GameState createGameState(Game game) {
+        Assert.state(!states.containsKey(game.getCode()), "Game state already exists for game: " + game.getCode());
+
+        // Game's instance will be updated in-memory from now on
+        em.flush();
+        em.detach(game);
+
+        final var state = new GameState(game);
+        state.setChangeListener(this::onChange);
+        states.put(game.getCode(), state);
+        afterRollback(() -> states.remove(game.getCode()));
+
+        log.info("Created game state for game: {}", game.getCode());
+        return state;
+    }
+
+    @Override
+    public GameState getGameState(String code) {
+        return states.computeIfAbsent(code, this::loadGameState);
+    }
+
+    @Override
+    public GameState getGameState(Game game) {
+        return getGameState(game.getCode());
+    }
+
+    @Override
+    public GameState getGameStateByPlayerId(long playerId) {
+        var code = playerGameCodes.get(playerId);
+        if (Objects.isNull(code)) {
+            final var opt = playerRepository.findById(playerId);
+            Assert.isTrue(opt.isPresent(), "No player found with ID: " + playerId);
+            code = opt.get().getGame().getCode();
+        }
+        return getGameState(code);
+    }
+
+    @Override
+    public GameState getGameStateByLandId(long landId) {
+        var code = landGameCodes.get(landId);
+        if (Objects.isNull(code)) {
+            final var opt = landRepository.findById(landId);
+            Assert.isTrue(opt.isPresent(), "No land associated with ID: " + landId);
+            code = opt.get().getGame().getCode();
+        }
+        return getGameState(code);
+    }
+
+    @Override
+    @Transactional
+    public void addPlayer(Player player) {
+        final var state = getGameState(player.getGame());
+
+        // Player's instance will be updated in-memory from now on
+        em.flush();
+        em.detach(player);
+
+        state.addPlayer(player);
+        playerGameCodes.put(player.getId(), state.getGame().getCode());
+        afterRollback(() -> playerGameCodes.remove(player.getId()));
+    }
+
+    @Override
+    public void removePlayer(Player player) {
+        final var state = getGameState(player.getGame());
+        state.removePlayer(player);
+        playerGameCodes.remove(player.getId());
+        afterRollback(() -> playerGameCodes.put(player.getId(), state.getGame().getCode()));
+    }
+
+    @Override
+    @Transactional
+    public void addLands(Game game, List<Land> lands) {
+        final var state = getGameState(game);
+
+        // Lands' instances will be updated in-memory from now on
+        em.flush();
+        lands.forEach(em::detach);
+
+        state.addLands(lands);
+        lands.forEach(land -> landGameCodes.put(land.getId(), game.getCode()));
+    }
+
+    @Override
+    public void flushGameState(Game game) {
+        final var state = states.get(game.getCode());
+        if (Objects.nonNull(state)) {
+            flush(state);
+        }
+    }
+
+    @Override
+    public void flushGameStates() {
+        // Skipping states changed by on-going transactions, flushed once these complete
+        states.values().stream().filter(state -> !state.isChanging()).forEach(this::flush);
+    }
+
+    @Override
+    public void evictGameState(Game game) {
+        final var state = states.remove(game.getCode());
+        if (Objects.isNull(state)) {
+            return;
+        }
+
+        // Waiting for any on-going flush and discarding pending changes
+        synchronized (state.getFlushLock()) {
+            state.drainChanges();
+        }
+        state.getPlayers().forEach(player -> playerGameCodes.remove(player.getId()));
+        state.getLands().forEach(land -> landGameCodes.remove(land.getId()));
+        log.info("Evicted game state for game: {}", game.getCode());
+    }
+
+    private GameState loadGameState(String code) {
+        log.info("Loading game state for game: {}", code);
+
+        // Using a separate entity manager so that loaded entities are detached once it's closed
+        final var entityManager = entityManagerFactory.createEntityManager();
+        try {
+            final var game = entityManager.find(Game.class, code);
+            Assert.isTrue(Objects.nonNull(game), "No game found for code: " + code);
+
+            final var players = entityManager
+                    .createQuery("SELECT p FROM Player p WHERE p.game = :game ORDER BY p.id", Player.class)
+                    .setParameter("game", game)
+                    .getResultList();
+            for (Player player : players) {
+                Hibernate.initialize(player.getPlayerLands());
+                Hibernate.initialize(player.getReceivedRents());
+                Hibernate.initialize(player.getPaidRents());
+            }
+
+            final var lands = entityManager
+                    .createQuery("SELECT l FROM Land l WHERE l.game = :game ORDER BY l.id", Land.class)
+                    .setParameter("game", game)
+                    .getResultList();
+            for (Land land : lands) {
+                Hibernate.initialize(land.getPlayerLands());
+                Hibernate.initialize(land.getLandEvents());
+            }
+
+            final var trendChunks = entityManager
+                    .createQuery("SELECT t FROM TrendChunk t WHERE t.game = :game", TrendChunk.class)
+                    .setParameter("game", game)
+                    .getResultList();
+
+            players.forEach(player -> playerGameCodes.put(player.getId(), code));
+            lands.forEach(land -> landGameCodes.put(land.getId(), code));
+            final var state = new GameState(game, players, lands, trendChunks);
+            state.setChangeListener(this::onChange);
+            return state;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void flush(GameState state) {
+        synchronized (state.getFlushLock()) {
+            final var changes = state.drainChanges();
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            final var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            try (final var session = sessionFactory.openStatelessSession()) {
+                session.setJdbcBatchSize(properties.flushBatchSize());
+                final var transaction = session.beginTransaction();
+                try {
+
+                    // Deleting removed rows first, a new row might re-use the same key
+                    changes.removals().forEach(entity -> delete(session, entity));
+
+                    // Updating existing rows
+                    if (Objects.nonNull(changes.game())) {
+                        session.update(changes.game());
+                    }
+                    changes.players().forEach(session::update);
+                    changes.playerLands().forEach(session::upsert);
+                    changes.landEvents().forEach(session::upsert);
+                    changes.trendChunks().forEach(session::upsert);
+
+                    transaction.commit();
+                } catch (RuntimeException ex) {
+                    transaction.rollback();
+                    state.requeueChanges(changes);
+                    log.error("Unable to flush game state for game: {}", state.getGame().getCode(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the entity's row if it's still there, as a rolled back transaction
+     * might remove a row again that an earlier flush already deleted.
+     */
+    private void delete(StatelessSession session, Object entity) {
+        session.createMutationQuery("DELETE FROM " + entity.getClass().getSimpleName() + " e WHERE id(e) = :id")
+                .setParameter("id", entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity))
+                .executeUpdate();
+    }
+
+    /**
+     * Binds the changed state to the transaction changing it, which either keeps
+     * the state's values once it commits or puts back the last committed ones if
+     * it rolls back. Otherwise, changes made in-memory before the rollback would
+     * remain and be flushed along with the committed ones. Game commands are
+     * executed one at a time per game, so a state is only changed by one
+     * transaction at a time.
+     */
+    private void onChange(GameState state) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            state.commitChanges();
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var changed = (Set<GameState>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.isNull(changed)) {
+            final var bound = Collections.newSetFromMap(new IdentityHashMap<GameState, Boolean>());
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    // Completing ahead of the updates, so that clients resyncing get the restored state
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(GameStateServiceImpl.this);
+                    bound.forEach(changedState -> complete(changedState, status == STATUS_COMMITTED));
+                }
+            });
+            changed = bound;
+        }
+        if (changed.add(state)) {
+            state.beginTransaction();
+        }
+    }
+
+    private void complete(GameState state, boolean committed) {
+        if (committed) {
+            state.commitTransaction();
+            return;
+        }
+
+        // Waiting for any on-going flush before putting back the values
+        synchronized (state.getFlushLock()) {
+            state.rollbackTransaction();
+        }
+        log.warn("Restored game state of rolled back transaction for game: {}", state.getGame().getCode());
+    }
+
+    private void afterRollback(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    runnable.run();
+                }
+            }
+        });
+    }
+
+}
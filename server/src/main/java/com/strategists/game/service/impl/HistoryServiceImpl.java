@@ -1,6 +1,5 @@
 package com.strategists.game.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.strategists.game.configuration.properties.HistoryConfigurationProperties;
@@ -11,31 +10,39 @@ import com.strategists.game.response.DownloadGoogleDriveFilesResponse;
 import com.strategists.game.response.UploadLocalFilesResponse;
 import com.strategists.game.service.HistoryService;
 import com.strategists.game.service.StorageService;
+import com.strategists.game.update.UpdateFrame;
 import com.strategists.game.update.UpdateType;
-import com.strategists.game.update.payload.UpdatePayload;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
-import org.springframework.util.CollectionUtils;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Log4j2
 @Service
 public class HistoryServiceImpl implements HistoryService {
 
     private static final String FILE_EXTENSION = ".jsonl";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String JOURNAL_DIRECTORY = "journal";
+    private static final byte[] NEW_LINE = {'\n'};
+    private static final int MAX_OPEN_JOURNALS = 64;
 
     @Autowired
     private HistoryConfigurationProperties properties;
@@ -43,8 +50,19 @@ public class HistoryServiceImpl implements HistoryService {
     @Autowired(required = false)
     private StorageService storageService;
 
-    // Game Code -> Pair(JSON strings, Whether valid or not)
-    private final Map<String, Pair<Queue<String>, Boolean>> history = new ConcurrentHashMap<>();
+    @Autowired
+    private ObjectMapper mapper;
+
+    // Game Code -> Game's append-only journal of encoded update frames
+    private final Map<String, Journal> journals = new ConcurrentHashMap<>();
+
+    // Game Code -> Journal holding an open channel, least recently appended to first
+    private final LinkedHashMap<String, Journal> openJournals = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Game Codes whose history was exported, until the game starts over or is cleaned up
+    private final Set<String> exportedGames = ConcurrentHashMap.newKeySet();
+
+    private File journalDirectory;
 
     @PostConstruct
     public void setup() {
@@ -57,6 +75,16 @@ public class HistoryServiceImpl implements HistoryService {
             log.info("Created directory: {}", dataDirectory);
         }
 
+        // Checking if journal directory exists, kept apart so that journals are never synced
+        journalDirectory = new File(dataDirectory, JOURNAL_DIRECTORY);
+        if (!journalDirectory.exists()) {
+            Assert.state(journalDirectory.mkdirs(), "Unable to create directory: " + journalDirectory);
+            log.info("Created directory: {}", journalDirectory);
+        }
+
+        // Deleting journals left behind by a previous run, as their games lived in the in-memory database
+        deleteStaleJournals();
+
         // Downloading history files from Google Drive
         downloadHistoryFiles();
     }
@@ -64,99 +92,115 @@ public class HistoryServiceImpl implements HistoryService {
     @Override
     public List<Map<String, Object>> getHistory(Game game) {
         // Checking if we have history for the game
-        if (!history.containsKey(game.getCode())) {
+        final var journal = journals.get(game.getCode());
+        if (Objects.isNull(journal)) {
             log.warn("No history found for game: {}", game.getCode());
             return List.of();
         }
 
         // Checking if history is valid
-        final var pair = history.get(game.getCode());
-        if (!pair.getSecond()) {
+        if (!journal.isValid()) {
             log.warn("History not valid for game: {}", game.getCode());
             return List.of();
         }
 
-        // Deserializing history JSONs
-        final var mapper = new ObjectMapper();
-        final var entries = new ArrayList<Map<String, Object>>();
-        for (final var json : pair.getFirst()) {
-            try {
-                final var entry = mapper.readValue(json, new TypeReference<Map<String, Object>>() {
-                });
-                entries.add(entry);
-            } catch (Exception ex) {
-                log.error("Unable to deserialize JSON: {}", json, ex);
-                return List.of();
-            }
+        // Deserializing history JSONs from the journal
+        try {
+            return journal.read();
+        } catch (IOException ex) {
+            log.error("Unable to read history of game: {}", game.getCode(), ex);
+            return List.of();
         }
-        return entries;
     }
 
     @Override
-    public void appendUpdatePayload(Game game, UpdatePayload<?> payload) {
-        // Checking if PING payload, ignore (this will never be called with ping as there is no handler)
-        if (UpdateType.PING.equals(payload.getType())) {
+    public void appendUpdateFrame(Game game, UpdateFrame frame) {
+        // Checking if PING frame, ignore (this will never be called with ping as there is no handler)
+        if (UpdateType.PING.equals(frame.getType())) {
             return;
         }
 
-        // Checking if CLEAN_UP payload, reset history (sent via SchedulerService after delay and has handler)
-        if (UpdateType.CLEAN_UP.equals(payload.getType())) {
+        // Checking if CLEAN_UP frame, reset history (sent via SchedulerService after delay and has handler)
+        if (UpdateType.CLEAN_UP.equals(frame.getType())) {
+            exportedGames.remove(game.getCode());
             resetHistory(game);
             return;
         }
 
-        // Checking if game's history is present or if game resets (RESET update takes first place similar to CREATE)
-        if (!history.containsKey(game.getCode()) || UpdateType.RESET.equals(payload.getType())) {
-            history.put(game.getCode(), Pair.of(new ConcurrentLinkedQueue<>(), true));
+        // Checking if game's history is present or if game starts over (RESET update takes first place similar to CREATE)
+        final Journal journal;
+        if (UpdateType.CREATE.equals(frame.getType()) || UpdateType.RESET.equals(frame.getType())) {
+            exportedGames.remove(game.getCode());
+            journal = journals.compute(game.getCode(), (code, previous) -> {
+                if (Objects.nonNull(previous)) {
+                    previous.close();
+                }
+                return new Journal(getJournalPath(code), true);
+            });
+        } else if (exportedGames.contains(game.getCode())) {
+            // Ignoring frames sent once the game's history was exported (ADVICE, PREDICTION, etc.)
+            log.debug("Skipped appending {} frame to exported history of game: {}", frame.getType(), game.getCode());
+            return;
+        } else {
+            journal = journals.computeIfAbsent(game.getCode(), code -> new Journal(getJournalPath(code), false));
         }
 
-        // Appending payload to history
+        // Appending the already encoded frame to the journal
         try {
-            final var json = getUpdatePayloadJson(payload);
-            history.get(game.getCode()).getFirst().add(json);
-        } catch (JsonProcessingException ex) {
-            log.error("Unable to serialize payload: {}", payload, ex);
+            journal.append(frame);
+        } catch (IOException ex) {
+            log.error("Unable to append {} frame to history of game: {}", frame.getType(), game.getCode(), ex);
+            invalidateHistory(game);
+            return;
+        }
+
+        // Keeping the journal's channel open while the game is among the most recently appended to
+        touchJournal(game.getCode(), journal);
+    }
 
-            // Invalidating history to prevent export
-            history.computeIfPresent(game.getCode(), (k, pair) -> Pair.of(pair.getFirst(), false));
+    @Override
+    public void invalidateHistory(Game game) {
+        // Invalidating history to prevent export
+        log.warn("Invalidating history for game: {}", game.getCode());
+        final var journal = journals.get(game.getCode());
+        if (Objects.nonNull(journal)) {
+            journal.invalidate();
         }
     }
 
     @Override
     public void exportHistory(Game game) {
+        // Marking game's history as exported, so that frames sent afterward don't start a new journal
+        exportedGames.add(game.getCode());
+
         // Checking if game's history is present
-        if (!history.containsKey(game.getCode()) || CollectionUtils.isEmpty(history.get(game.getCode()).getFirst())) {
+        final var journal = journals.get(game.getCode());
+        if (Objects.isNull(journal) || journal.isEmpty()) {
             log.warn("No history available for game: {}", game.getCode());
-            if (CollectionUtils.isEmpty(history.get(game.getCode()).getFirst())) {
-                resetHistory(game);
-            }
+            resetHistory(game);
             return;
         }
 
         // Checking if history is valid
-        final var pair = history.get(game.getCode());
-        if (!pair.getSecond()) {
+        if (!journal.isValid()) {
             log.warn("History is not valid for game: {}", game.getCode());
             resetHistory(game);
             return;
         }
 
-        // Joining JSON strings into one multi-line JSON blob
-        final var jsonl = String.join("\n", pair.getFirst()) + "\n";
-
-        // Preparing multi-line JSON file for writing the payload (map-code-timestamp.jsonl)
+        // Preparing multi-line JSON file for the journal (map-code-timestamp.jsonl)
         final var filename = String.format("%s-%s-%s%s", game.getGameMapId(), game.getCode(), System.currentTimeMillis(), FILE_EXTENSION);
         final var file = new File(properties.dataDirectory(), filename);
 
-        // Appending payload's JSON string to the multi-line JSON file
-        try (final var writer = new FileWriter(file, true)) {
-            writer.write(jsonl);
+        // Moving the journal in place, as it already holds the frames' JSON line by line
+        try {
+            journal.moveTo(file.toPath());
             log.info("Exported history at path: {}", file.getAbsolutePath());
         } catch (IOException ex) {
             log.error(ex.getMessage(), ex);
         }
 
-        // Removing game's history from map
+        // Removing game's journal
         resetHistory(game);
 
         // Uploading to Google Drive
@@ -166,13 +210,53 @@ public class HistoryServiceImpl implements HistoryService {
     @Override
     public void resetHistory(Game game) {
         log.info("Resetting history for game: {}", game.getCode());
-        history.remove(game.getCode());
+        final var journal = journals.remove(game.getCode());
+        if (Objects.nonNull(journal)) {
+            journal.close();
+            synchronized (openJournals) {
+                openJournals.remove(game.getCode(), journal);
+            }
+        }
+
+        // Deleting the journal, if not already exported
+        try {
+            Files.deleteIfExists(getJournalPath(game.getCode()));
+        } catch (IOException ex) {
+            log.error(ex.getMessage(), ex);
+        }
+    }
+
+    private Path getJournalPath(String code) {
+        return new File(journalDirectory, code + JOURNAL_EXTENSION).toPath();
+    }
+
+    private void touchJournal(String code, Journal journal) {
+        final var evicted = new ArrayList<Journal>();
+        synchronized (openJournals) {
+            openJournals.put(code, journal);
+            while (openJournals.size() > MAX_OPEN_JOURNALS) {
+                final var iterator = openJournals.values().iterator();
+                evicted.add(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        // Releasing channels outside the lock, as journals lock themselves while appending
+        evicted.forEach(Journal::release);
     }
 
+    private void deleteStaleJournals() {
+        final var files = journalDirectory.listFiles((directory, name) -> name.endsWith(JOURNAL_EXTENSION));
+        if (Objects.isNull(files) || files.length == 0) {
+            return;
+        }
 
-    private String getUpdatePayloadJson(UpdatePayload<?> payload) throws JsonProcessingException {
-        final var mapper = new ObjectMapper();
-        return mapper.writeValueAsString(payload);
+        for (final var file : files) {
+            if (!file.delete()) {
+                log.warn("Unable to delete stale journal: {}", file);
+            }
+        }
+        log.info("Stale journals deleted: {}", files.length);
     }
 
     private void downloadHistoryFiles() {
@@ -217,4 +301,114 @@ public class HistoryServiceImpl implements HistoryService {
         log.info("History files uploaded: {}", uploadedFiles.size());
     }
 
+    /**
+     * Game's history as a file of frames' JSON, one per line, only ever appended
+     * to. Frames are written straight through the channel and aren't kept on the
+     * heap, leaving the operating system's page cache to hold the recent ones.
+     * Channels are released once the game falls out of the most recently appended
+     * ones, and reopened on its next append.
+     * <p>
+     * Journals are scratch files, not a crash-safe store: writes aren't forced to
+     * disk and journals are deleted on startup, since games live in the in-memory
+     * database and can't be resumed after a restart anyway.
+     */
+    private class Journal {
+
+        private final Path path;
+        private boolean truncate;
+        private FileChannel channel;
+        private long size;
+        private boolean valid = true;
+        private boolean closed;
+
+        private Journal(Path path, boolean truncate) {
+            this.path = path;
+            this.truncate = truncate;
+        }
+
+        private synchronized boolean isValid() {
+            return valid;
+        }
+
+        private synchronized boolean isEmpty() {
+            return closed || size == 0;
+        }
+
+        private synchronized void append(UpdateFrame frame) throws IOException {
+            // Ignoring frames once invalid, or raced by the game starting over
+            if (!valid || closed) {
+                return;
+            }
+
+            // Opening the journal on first append or once released, starting over only the first time if the game does
+            if (Objects.isNull(channel)) {
+                final var mode = truncate ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+                size = channel.size();
+                truncate = false;
+            }
+
+            // Writing the frame's JSON along with the line break as one sequential write
+            final var buffers = new ByteBuffer[]{ByteBuffer.wrap(frame.getJson()), ByteBuffer.wrap(NEW_LINE)};
+            while (buffers[1].hasRemaining()) {
+                size += channel.write(buffers);
+            }
+        }
+
+        /**
+         * Reads and parses the whole journal on each call, costing time linear in the
+         * game's length. It's only read for inference, whose request carries the whole
+         * history anyway, and keeping parsed frames around would grow the heap again.
+         */
+        private synchronized List<Map<String, Object>> read() throws IOException {
+            if (size == 0) {
+                return List.of();
+            }
+
+            final var entries = new ArrayList<Map<String, Object>>();
+            try (final var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while (Objects.nonNull(line = reader.readLine())) {
+                    entries.add(mapper.readValue(line, new TypeReference<>() {
+                    }));
+                }
+            }
+            return entries;
+        }
+
+        private synchronized void invalidate() {
+            // Dropping the journal's content, as it will never be exported
+            valid = false;
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+        }
+
+        private synchronized void moveTo(Path target) throws IOException {
+            close();
+            Files.move(path, target);
+        }
+
+        private synchronized void release() {
+            if (Objects.isNull(channel)) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+            channel = null;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            release();
+        }
+
+    }
+
 }
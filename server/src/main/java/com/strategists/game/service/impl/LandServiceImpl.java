@@ -4,21 +4,19 @@ import com.strategists.game.entity.Game;
 import com.strategists.game.entity.GameMap;
 import com.strategists.game.entity.Land;
 import com.strategists.game.entity.Player;
-import com.strategists.game.entity.PlayerLand;
 import com.strategists.game.entity.Rent;
 import com.strategists.game.entity.Trend;
 import com.strategists.game.repository.LandRepository;
-import com.strategists.game.repository.TrendRepository;
 import com.strategists.game.service.EventService;
+import com.strategists.game.service.GameStateService;
 import com.strategists.game.service.LandService;
-import com.strategists.game.update.UpdateMapping;
-import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.UpdatePublisher;
+import com.strategists.game.update.event.TrendUpdateEvent;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -33,61 +31,47 @@ public class LandServiceImpl implements LandService {
     private EventService eventService;
 
     @Autowired
-    private TrendRepository trendRepository;
+    private GameStateService gameStateService;
+
+    @Autowired
+    private UpdatePublisher updatePublisher;
 
     @Override
     public void updateLands(Game game, GameMap gameMap) {
-        gameMap.getLands().forEach(land -> land.setGame(game));
-        landRepository.saveAll(gameMap.getLands());
+        final var lands = gameMap.newLands();
+        lands.forEach(land -> land.setGame(game));
+        gameStateService.addLands(game, landRepository.saveAll(lands));
     }
 
     @Override
     public List<Land> getLandsByGame(Game game) {
-        return landRepository.findByGameOrderById(game);
+        return gameStateService.getGameState(game).getLands();
     }
 
     @Override
     public int getCount(Game game) {
-        return (int) landRepository.countByGame(game);
+        return gameStateService.getGameState(game).getLandIndex().size();
     }
 
     @Override
     public Land getLandByIndex(Game game, int index) {
-        return getLandsByGame(game).get(index);
+        return gameStateService.getGameState(game).getLandIndex().getLand(index);
     }
 
     @Override
     public List<Rent> getPlayerRentsByLand(Player sourcePlayer, Land land) {
         Assert.isTrue(Objects.equals(sourcePlayer.getGame(), land.getGame()), "Player's and Land's game must match!");
-        final var game = sourcePlayer.getGame();
-
-        final var rents = new ArrayList<Rent>();
-        for (PlayerLand pl : land.getPlayerLands()) {
-            final var targetPlayer = pl.getPlayer();
-
-            // Avoiding self rent payment or bankrupt players
-            if (Objects.equals(targetPlayer, sourcePlayer) || targetPlayer.isBankrupt()) {
-                continue;
-            }
-
-            // Calculating rent for the target player
-            final var rentAmount = game.getRentFactor() * (pl.getOwnership() / 100) * land.getMarketValue();
-            rents.add(new Rent(sourcePlayer, targetPlayer, land, rentAmount));
-        }
-
-        return rents;
+        return Rent.fromLand(sourcePlayer, land);
     }
 
     @Override
     public void hostEvent(long landId, long eventId, int life, int level) {
-        final var opt = landRepository.findById(landId);
-        Assert.isTrue(opt.isPresent(), "No land associated with ID: " + landId);
-
-        final var land = opt.get();
+        // Updating the land's instance held by the game's state
+        final var state = gameStateService.getGameStateByLandId(landId);
+        final var land = state.getLandById(landId);
         final var event = eventService.getEventById(eventId);
 
-        land.addEvent(event, life, level);
-        landRepository.save(land);
+        state.markDirty(land.addEvent(event, life, level));
 
         log.info("Event {} hosted on {}.", event.getName(), land.getName());
     }
@@ -95,17 +79,25 @@ public class LandServiceImpl implements LandService {
     @Override
     public void resetLands(Game game) {
         log.info("Resetting lands for game: {}", game.getCode());
-        final var lands = getLandsByGame(game);
-        for (Land land : lands) {
+        final var state = gameStateService.getGameState(game);
+        for (Land land : getLandsByGame(game)) {
+            land.getLandEvents().forEach(state::remove);
             land.getLandEvents().clear();
+            land.invalidateMarketValue();
         }
-        landRepository.saveAll(lands);
     }
 
     @Override
-    @UpdateMapping(UpdateType.TREND)
+    public void updateMarketValues(Game game) {
+        getLandsByGame(game).forEach(Land::updateMarketValue);
+    }
+
+    @Override
     public List<Trend> updateLandTrends(Game game) {
-        return trendRepository.saveAll(getLandsByGame(game).stream().map(Trend::fromLand).toList());
+        final var trends = getLandsByGame(game).stream().map(Trend::fromLand).toList();
+        gameStateService.getGameState(game).addTrends(trends);
+        updatePublisher.publish(new TrendUpdateEvent(game, trends));
+        return trends;
     }
 
 }
@@ -0,0 +1,31 @@
+package com.strategists.game.service.impl;
+
+import com.strategists.game.configuration.properties.UpdateBusConfigurationProperties;
+import com.strategists.game.service.NodeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Assigns each game to an owner node by hashing its code over the configured
+ * nodes, so that every node agrees on the owner without coordination. The owner
+ * holds the game's state and executes its commands, while any node may serve
+ * the game's updates. Without nodes configured, this node owns every game.
+ */
+@Service
+public class NodeServiceImpl implements NodeService {
+
+    @Autowired
+    private UpdateBusConfigurationProperties properties;
+
+    @Override
+    public boolean isOwner(String gameCode) {
+        return properties.nodes().isEmpty() || properties.nodeUrl().equals(getOwnerUrl(gameCode));
+    }
+
+    @Override
+    public String getOwnerUrl(String gameCode) {
+        final var nodes = properties.nodes();
+        return nodes.isEmpty() ? properties.nodeUrl() : nodes.get(Math.floorMod(gameCode.hashCode(), nodes.size()));
+    }
+
+}
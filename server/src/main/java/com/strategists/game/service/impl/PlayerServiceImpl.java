@@ -8,13 +8,22 @@ import com.strategists.game.entity.PlayerLand;
 import com.strategists.game.entity.Rent;
 import com.strategists.game.entity.Trend;
 import com.strategists.game.repository.PlayerRepository;
-import com.strategists.game.repository.TrendRepository;
+import com.strategists.game.repository.RentRepository;
+import com.strategists.game.service.GameStateService;
 import com.strategists.game.service.LandService;
+import com.strategists.game.service.NodeService;
 import com.strategists.game.service.PlayerService;
-import com.strategists.game.update.UpdateMapping;
-import com.strategists.game.update.UpdateType;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.strategists.game.update.UpdatePublisher;
+import com.strategists.game.update.event.BankruptcyUpdateEvent;
+import com.strategists.game.update.event.InvestUpdateEvent;
+import com.strategists.game.update.event.JoinUpdateEvent;
+import com.strategists.game.update.event.KickUpdateEvent;
+import com.strategists.game.update.event.MoveUpdateEvent;
+import com.strategists.game.update.event.RentUpdateEvent;
+import com.strategists.game.update.event.SkipUpdateEvent;
+import com.strategists.game.update.event.StartUpdateEvent;
+import com.strategists.game.update.event.TrendUpdateEvent;
+import com.strategists.game.update.event.TurnUpdateEvent;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +31,8 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
@@ -33,37 +44,62 @@ public class PlayerServiceImpl implements PlayerService {
 
     private static final Random RANDOM = new Random();
 
-    @PersistenceContext
-    private EntityManager em;
+    // Allowed difference between running and derived totals, caused by rounding
+    private static final double LEDGER_TOLERANCE = 0.01;
 
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private RentRepository rentRepository;
+
     @Autowired
     private LandService landService;
 
     @Autowired
-    private TrendRepository trendRepository;
+    private GameStateService gameStateService;
+
+    @Autowired
+    private NodeService nodeService;
+
+    @Autowired
+    private UpdatePublisher updatePublisher;
 
     @Override
     public List<Player> getPlayersByGame(Game game) {
-        return playerRepository.findByGame(game);
+        return new ArrayList<>(gameStateService.getGameState(game).getPlayers());
     }
 
     @Override
     public List<Player> getActivePlayersByGame(Game game) {
-        return playerRepository.findByGameAndState(game, State.ACTIVE);
+        return getPlayersByGame(game).stream().filter(Player::isActive).toList();
     }
 
     @Override
     public List<Player> getPlayersByGameOrderByBankruptcy(Game game) {
-        return playerRepository.findByGameOrderByBankruptcyOrder(game);
+        final var comparator = Comparator.comparing(Player::getBankruptcyOrder, Comparator.nullsFirst(Comparator.naturalOrder()));
+        return getPlayersByGame(game).stream().sorted(comparator).toList();
     }
 
     @Override
     public Player getPlayerById(long id) {
+        final var player = gameStateService.getGameStateByPlayerId(id).getPlayerById(id);
+        Assert.isTrue(Objects.nonNull(player), "No player found with ID: " + id);
+        return player;
+    }
+
+    @Override
+    public Player getPlayerByGameCodeAndId(String code, long id) {
+        if (nodeService.isOwner(code)) {
+            final var player = gameStateService.getGameState(code).getPlayerById(id);
+            Assert.isTrue(Objects.nonNull(player), "No player found with ID: " + id);
+            return player;
+        }
+
+        // Reading the player's row, without loading the game's state on this node
         final var opt = playerRepository.findById(id);
         Assert.isTrue(opt.isPresent(), "No player found with ID: " + id);
+        Assert.isTrue(Objects.equals(code, opt.get().getGame().getCode()), "Player doesn't belong in requested game!");
         return opt.get();
     }
 
@@ -76,22 +112,24 @@ public class PlayerServiceImpl implements PlayerService {
     public Player getPlayerByEmail(String email) {
         final var opt = playerRepository.findByEmail(email);
         Assert.isTrue(opt.isPresent(), "No player found with requested email!");
-        return opt.get();
+        return getPlayerById(opt.get().getId());
     }
 
     @Override
-    @UpdateMapping(UpdateType.JOIN)
     public Player addPlayer(Game game, String email, String name) {
-        return addPlayer(game, email, name, false);
+        final var player = addPlayer(game, email, name, false);
+        updatePublisher.publish(new JoinUpdateEvent(player));
+        return player;
     }
 
     @Override
     public Player addPlayer(Game game, String email, String name, boolean host) {
+        final var players = getPlayersByGame(game);
         Assert.state(!existsByEmail(email), email + " already in a game!");
-        Assert.state(playerRepository.countByGame(game) < game.getMaxPlayersCount(),
+        Assert.state(players.size() < game.getMaxPlayersCount(),
                 "Max count reached! Can't add more players to game: " + game.getCode());
         if (host) {
-            Assert.state(!playerRepository.existsByGameAndHost(game, host),
+            Assert.state(players.stream().noneMatch(Player::isHost),
                     "Host already assigned to the game: " + game.getCode());
         }
 
@@ -104,21 +142,29 @@ public class PlayerServiceImpl implements PlayerService {
         final var split = name.split("\\s+");
         int count = 0;
         player.setUsername(split[0]);
-        while (playerRepository.existsByGameAndUsername(game, player.getUsername())) {
+        while (hasUsername(players, player.getUsername())) {
             player.setUsername(String.format("%s-%s", split[0], ++count));
         }
 
+        // Inserting the player right away to generate its ID
+        playerRepository.save(player);
+        gameStateService.addPlayer(player);
+
         log.info("{} (host? {}) joined game: {}", player.getUsername(), player.isHost(), game.getCode());
-        return playerRepository.save(player);
+        return player;
     }
 
     @Override
-    @UpdateMapping(UpdateType.KICK)
     public Player kickPlayer(long playerId) {
         try {
             final var player = getPlayerById(playerId);
+
+            // Flushing pending changes before deleting the player's rows directly
+            gameStateService.flushGameState(player.getGame());
             playerRepository.delete(player);
+            gameStateService.removePlayer(player);
             log.info("Kicked {}", player.getUsername());
+            updatePublisher.publish(new KickUpdateEvent(player));
             return player;
         } catch (EmptyResultDataAccessException ex) {
             // suppress exception
@@ -128,11 +174,10 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public boolean isTurnAssigned(Game game) {
-        return playerRepository.existsByGameAndTurn(game, true);
+        return getPlayersByGame(game).stream().anyMatch(Player::isTurn);
     }
 
     @Override
-    @UpdateMapping(UpdateType.START)
     public Player assignTurn(Game game) {
         Assert.state(!isTurnAssigned(game), "Turn already assigned!");
 
@@ -141,40 +186,37 @@ public class PlayerServiceImpl implements PlayerService {
         players.forEach(player -> player.setBankruptcyOrder(players.size()));
         final var player = players.get(RANDOM.nextInt(players.size()));
         player.setTurn(true);
-        playerRepository.saveAll(players);
+
+        final var state = gameStateService.getGameState(game);
+        players.forEach(state::markDirty);
 
         log.info("Assigned first turn to {} for game: {}", player.getUsername(), game.getCode());
+        updatePublisher.publish(new StartUpdateEvent(player));
         return player;
     }
 
     @Override
     public Player getCurrentPlayer(Game game) {
-        final var opt = playerRepository.findByGameAndTurn(game, true);
+        final var opt = getPlayersByGame(game).stream().filter(Player::isTurn).findFirst();
         Assert.state(opt.isPresent(), "No player has the turn for game: " + game.getCode());
 
         return opt.get();
     }
 
     @Override
-    @UpdateMapping(UpdateType.MOVE)
     public Land movePlayer(Player player, int move) {
         final var game = player.getGame();
         player.setIndex((player.getIndex() + move) % landService.getCount(game));
-
-        /**
-         * Had to use flush because rent method refreshes the source player and revert's
-         * player's index back to previous land. This ensures that it doesn't do that.
-         */
-        playerRepository.saveAndFlush(player);
+        gameStateService.getGameState(game).markDirty(player);
 
         final var index = player.getIndex();
         final var land = landService.getLandByIndex(game, index);
         log.info("{} moved to {} ({}) for game: {}", player.getUsername(), land.getName(), index, game.getCode());
+        updatePublisher.publish(new MoveUpdateEvent(player, move, land));
         return land;
     }
 
     @Override
-    @UpdateMapping(UpdateType.TURN)
     public Player nextPlayer(Player currentPlayer) {
         Assert.state(currentPlayer.isTurn(), currentPlayer.getUsername() + " doesn't have current turn!");
 
@@ -196,9 +238,13 @@ public class PlayerServiceImpl implements PlayerService {
 
             currentPlayer.setTurn(false);
             player.setTurn(true);
-            playerRepository.saveAll(List.of(currentPlayer, player));
+
+            final var state = gameStateService.getGameState(game);
+            state.markDirty(currentPlayer);
+            state.markDirty(player);
 
             log.info("Assigned turn to {} for game: {}", player.getUsername(), game.getCode());
+            updatePublisher.publish(new TurnUpdateEvent(currentPlayer, player));
             return player;
 
         } while (!Objects.equals(currentPlayer, players.get(i)));
@@ -208,93 +254,88 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
-    @UpdateMapping(UpdateType.SKIP)
     public void skipPlayer(Player player) {
         player.setRemainingSkipsCount(player.getRemainingSkipsCount() - 1);
         player.setLastSkippedStep(player.getGame().getCurrentStep());
-        playerRepository.save(player);
 
         final var game = player.getGame();
+        gameStateService.getGameState(game).markDirty(player);
         log.info("{}/{} skips remain for {} in game: {}", player.getRemainingSkipsCount(), game.getAllowedSkipsCount(), player.getUsername(), game.getCode());
+        updatePublisher.publish(new SkipUpdateEvent(player));
     }
 
     @Override
-    @UpdateMapping(UpdateType.INVEST)
     public void invest(Player player, Land land, double ownership) {
         final var buyAmount = land.getMarketValue() * (ownership / 100);
         Assert.isTrue(land.getTotalOwnership() + ownership <= 100, "Can't buy more than 100% of a land!");
         Assert.isTrue(player.getCash() > buyAmount,
                 String.format("%s's %s cash < %s buying amount!", player.getUsername(), player.getCash(), buyAmount));
 
-        player.addLand(land, ownership, buyAmount);
+        // Adding investment to both player's and land's side
+        final var playerLand = player.addLand(land, ownership, buyAmount);
         player.setLastInvestStep(player.getGame().getCurrentStep());
 
-        /*
-         * Somehow standard "save" method was not inserting the record right away. My
-         * guess, since PlayerLand has complex Id situation, JPA is unable to predict
-         * that it needs to insert/update the record. This behavior breaks refreshing of
-         * land's entity. The "saveAndFlush" method forces JPA to insert/update the
-         * record right away.
-         */
-        playerRepository.saveAndFlush(player);
-
-        // Refreshing land's entity to reflect this investment
-        em.refresh(land);
-
         final var game = player.getGame();
+        final var state = gameStateService.getGameState(game);
+        state.markDirty(player);
+        state.markDirty(playerLand);
+
         log.info("{} invested {}% in {} for {} in game: {}", player.getUsername(), ownership, land.getName(), buyAmount, game.getCode());
+        updatePublisher.publish(new InvestUpdateEvent(player, land, ownership));
     }
 
     @Override
-    @UpdateMapping(UpdateType.RENT)
-    public void payRent(Rent rent) {
-        final var source = rent.getSourcePlayer();
-        final var target = rent.getTargetPlayer();
-        final var land = rent.getLand();
-        final var amount = rent.getRentAmount();
-
-        // Adding rent instance to target player only
-        target.addRent(rent);
-        playerRepository.save(target);
-
-        /**
-         * After marking foreign key columns with @ManyToOne annotation, target player
-         * received twice the rent. This was fixed by refreshing the target player's
-         * entity too with source player.
-         */
-        em.refresh(source);
-        em.refresh(target);
-
+    public void payRents(List<Rent> rents) {
+        Assert.notEmpty(rents, "At least 1 rent is required!");
+        final var source = rents.get(0).getSourcePlayer();
         final var game = source.getGame();
-        log.info("{} paid {} rent to {} for {} in game: {}", source.getUsername(), amount, target.getUsername(), land.getName(), game.getCode());
+        final var state = gameStateService.getGameState(game);
+
+        // Adding rent instances to both players
+        for (Rent rent : rents) {
+            final var target = rent.getTargetPlayer();
+            target.addRent(rent);
+            source.addPaidRent(rent);
+            state.markDirty(target);
+            log.info("{} paid {} rent to {} for {} in game: {}", source.getUsername(), rent.getRentAmount(), target.getUsername(), rent.getLand().getName(), game.getCode());
+        }
+        state.markDirty(source);
+
+        // Inserting the landing's rents in a single batch
+        rentRepository.saveAll(rents);
+        updatePublisher.publish(new RentUpdateEvent(rents));
     }
 
     @Override
-    @UpdateMapping(UpdateType.BANKRUPTCY)
     public void bankruptPlayer(Player player) {
-        final var order = playerRepository.countByGameAndState(player.getGame(), State.BANKRUPT) + 1;
+        final var game = player.getGame();
+        final var order = getPlayersByGame(game).stream().filter(Player::isBankrupt).count() + 1;
 
         player.setState(State.BANKRUPT);
         player.setBankruptcyOrder((int) order);
-        playerRepository.saveAndFlush(player);
+        player.invalidateLandsMarketValue();
+        gameStateService.getGameState(game).markDirty(player);
 
-        final var game = player.getGame();
         log.info("{} state updated to {} in game: {}", player.getUsername(), player.getState(), game.getCode());
+        updatePublisher.publish(new BankruptcyUpdateEvent(player));
     }
 
     @Override
     public void resetPlayers(Game game) {
         log.info("Resetting players for game: {}", game.getCode());
-        final var players = getPlayersByGame(game);
-        for (Player player : players) {
+        final var state = gameStateService.getGameState(game);
+        for (Player player : getPlayersByGame(game)) {
 
             // Removing all the investments
             for (PlayerLand pl : player.getPlayerLands()) {
                 pl.getLand().getPlayerLands().clear();
+                pl.getLand().invalidateMarketValue();
+                state.remove(pl);
             }
             player.getPlayerLands().clear();
 
-            // Removing all the rents
+            // Removing all the rents - Every rent is received by exactly one player
+            player.getReceivedRents().forEach(state::remove);
             player.getReceivedRents().clear();
             player.getPaidRents().clear();
 
@@ -303,15 +344,43 @@ public class PlayerServiceImpl implements PlayerService {
             player.setTurn(false);
             player.setState(State.ACTIVE);
             player.setRemainingSkipsCount(game.getAllowedSkipsCount());
+            player.resetLedger();
+            state.markDirty(player);
         }
-
-        playerRepository.saveAll(players);
     }
 
     @Override
-    @UpdateMapping(UpdateType.TREND)
     public List<Trend> updatePlayerTrends(Game game) {
-        return trendRepository.saveAll(getActivePlayersByGame(game).stream().map(Trend::fromPlayer).toList());
+        final var trends = getActivePlayersByGame(game).stream().map(Trend::fromPlayer).toList();
+        gameStateService.getGameState(game).addTrends(trends);
+        updatePublisher.publish(new TrendUpdateEvent(game, trends));
+        return trends;
+    }
+
+    @Override
+    public boolean verifyLedgers(Game game) {
+        // Comparing with the rows as they are, the game's state is expected to be flushed
+        var consistent = true;
+        for (Player player : getPlayersByGame(game)) {
+            final var investedAmount = playerRepository.sumInvestedAmount(player.getId());
+            final var cash = player.deriveCash(
+                    playerRepository.sumReceivedRentsAmount(player.getId()),
+                    playerRepository.sumPaidRentsAmount(player.getId()),
+                    investedAmount
+            );
+
+            if (Math.abs(cash - player.getCash()) >= LEDGER_TOLERANCE
+                    || Math.abs(investedAmount - player.getInvestedAmount()) >= LEDGER_TOLERANCE) {
+                consistent = false;
+                log.warn("{}'s ledger is inconsistent in game: {} (cash {} vs {}, invested {} vs {})", player.getUsername(),
+                        game.getCode(), player.getCash(), cash, player.getInvestedAmount(), investedAmount);
+            }
+        }
+        return consistent;
+    }
+
+    private boolean hasUsername(List<Player> players, String username) {
+        return players.stream().anyMatch(player -> Objects.equals(player.getUsername(), username));
     }
 
 }
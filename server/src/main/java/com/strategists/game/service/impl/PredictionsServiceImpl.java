@@ -4,20 +4,20 @@ import com.strategists.game.configuration.properties.ExternalAPIEndpointConfigur
 import com.strategists.game.configuration.properties.PredictionsConfigurationProperties;
 import com.strategists.game.csv.impl.PredictionsCSV;
 import com.strategists.game.entity.Game;
-import com.strategists.game.entity.GameMap;
 import com.strategists.game.entity.PlayerPrediction;
 import com.strategists.game.repository.PlayerPredictionRepository;
 import com.strategists.game.request.DownloadGoogleDriveFilesRequest;
 import com.strategists.game.response.DownloadGoogleDriveFilesResponse;
 import com.strategists.game.response.PlayerPredictionsResponse;
 import com.strategists.game.response.PredictionsModelInfo;
+import com.strategists.game.service.GameMapService;
 import com.strategists.game.service.HistoryService;
 import com.strategists.game.service.LandService;
 import com.strategists.game.service.PlayerService;
 import com.strategists.game.service.PredictionsService;
 import com.strategists.game.service.StorageService;
-import com.strategists.game.update.UpdateMapping;
-import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.UpdatePublisher;
+import com.strategists.game.update.event.PredictionUpdateEvent;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
@@ -29,7 +29,6 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +47,7 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
     private PlayerPredictionRepository playerPredictionRepository;
 
     @Autowired
-    private Map<String, File> gameMapFiles;
+    private GameMapService gameMapService;
 
     @Autowired
     private PlayerService playerService;
@@ -62,6 +61,9 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
     @Autowired(required = false)
     private StorageService storageService;
 
+    @Autowired
+    private UpdatePublisher updatePublisher;
+
     @PostConstruct
     public void setup() {
         log.info(properties);
@@ -94,7 +96,6 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
 
     @Override
     @Transactional
-    @UpdateMapping(UpdateType.PREDICTION)
     public List<PlayerPrediction> inferPredictionsModel(Game game) {
         // Checking if model inference is disabled
         if (!properties.strategies().modelInferenceEnabled()) {
@@ -132,7 +133,9 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
                     final var player = playerService.getPlayerById(response.getPlayerId());
                     return new PlayerPrediction(player, response.getBankruptProbability(), response.getWinnerProbability(), response.getPrediction());
                 }).toList();
-        return playerPredictionRepository.saveAll(playerPredictions);
+        final var predictions = playerPredictionRepository.saveAll(playerPredictions);
+        updatePublisher.publish(new PredictionUpdateEvent(game, predictions));
+        return predictions;
     }
 
     @Override
@@ -140,6 +143,11 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
         return playerPredictionRepository.findByGameOrderById(game);
     }
 
+    @Override
+    public List<PlayerPrediction> getPlayerPredictionsByGame(Game game, int fromStep) {
+        return playerPredictionRepository.findByGameAndStepGreaterThanEqualOrderById(game, fromStep);
+    }
+
     @Override
     public void clearPlayerPredictions(Game game) {
         playerPredictionRepository.deleteByGame(game);
@@ -153,12 +161,7 @@ public class PredictionsServiceImpl extends AbstractExternalService implements P
         }
 
         log.info("Training predictions model for eligible game maps...");
-        for (final var file : gameMapFiles.values()) {
-            final var gameMap = GameMap.from(file);
-            if (Objects.isNull(gameMap)) {
-                continue;
-            }
-
+        for (final var gameMap : gameMapService.getGameMaps()) {
             // Checking if predictions model exists for the game map
             if (doesPredictionsModelExists(gameMap.getId())) {
                 log.warn("Predictions model info found, skipping model training for map: '{}'", gameMap.getId());
@@ -1,76 +1,528 @@
 package com.strategists.game.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.configuration.properties.SSEPingConfigurationProperties;
+import com.strategists.game.configuration.properties.UpdatesConfigurationProperties;
 import com.strategists.game.entity.Game;
 import com.strategists.game.entity.Player;
+import com.strategists.game.response.UpdateMetricsResponse;
 import com.strategists.game.service.UpdateService;
+import com.strategists.game.update.UpdateFrame;
+import com.strategists.game.update.bus.UpdateBus;
 import com.strategists.game.update.payload.PingUpdatePayload;
-import com.strategists.game.update.payload.UpdatePayload;
+import com.strategists.game.update.payload.ResyncUpdatePayload;
+import com.strategists.game.util.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 @Log4j2
 @Service
 public class UpdateServiceImpl implements UpdateService {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // Reconnecting clients are back well within this time, after which subscriber-less channels are dropped
+    private static final long IDLE_CHANNEL_TIMEOUT = Duration.ofMinutes(5).toMillis();
+
+    @Autowired
+    private UpdatesConfigurationProperties properties;
+
+    @Autowired
+    private SSEPingConfigurationProperties pingProperties;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Autowired
+    private UpdateBus updateBus;
+
+    // Game Code -> Game's stream of updates
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder resyncedCount = new LongAdder();
+    private final LongAdder pingedCount = new LongAdder();
+
+    // Subscribers due to be checked for idleness, keyed by their last write's time plus the idle timeout
+    private TimingWheel<Subscriber> heartbeats;
+
+    // Encoded once, as pings carry nothing but their type
+    private UpdateFrame pingFrame;
+
+    /*
+     * Sends block inside the emitter's and Tomcat's monitors, which would pin
+     * virtual threads' carriers on a stalled connection. Hence, platform threads
+     * drain the subscribers, and are only held while frames are pending.
+     */
+    private final ExecutorService writers = Executors.newCachedThreadPool(Thread.ofPlatform().name("sse-", 0).daemon(true).factory());
+
+    @PostConstruct
+    public void setup() {
+        log.info(properties);
+
+        // Spanning the whole idle timeout, so that a subscriber is in the wheel at most once
+        final var tick = pingProperties.tickInterval();
+        heartbeats = new TimingWheel<>((int) (pingProperties.idleTimeout() / tick) + 2, tick);
+        try {
+            pingFrame = UpdateFrame.encode(mapper, new PingUpdatePayload());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize ping payload", ex);
+        }
+
+        // Checking for subscribers stuck on a send, and channels no one listens to, in the background
+        scheduler.scheduleWithFixedDelay(this::checkChannels, Duration.ofMillis(properties.stallTimeout() / 2));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        writers.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter registerEmitter(Player player, String lastEventId) {
+        final var subscriber = new SseSubscriber(player.getGame().getCode(), player.getId());
+        channels.compute(player.getGame().getCode(), (code, channel) -> {
+            final var current = Objects.isNull(channel) ? openChannel(code) : channel;
+
+            // Replaying missed frames before any new frame, as both happen within the channel's lock
+            if (Objects.nonNull(lastEventId)) {
+                current.replay(subscriber, lastEventId);
+            }
+            current.replace(subscriber);
+            return current;
+        });
+        return subscriber.emitter;
+    }
 
     @Override
-    public SseEmitter registerEmitter(Player player) {
-        final var emitterKey = getEmitterKey(player);
-        emitters.computeIfAbsent(emitterKey, key -> {
-            final var emitter = new SseEmitter(-1L);
-            emitter.onCompletion(() -> emitters.remove(key));
-            emitter.onError(ex -> emitters.remove(key));
-            return emitter;
+    public void registerSession(Player player, WebSocketSession session, boolean binary) {
+        final var subscriber = new WebSocketSubscriber(player.getGame().getCode(), player.getId(), session, binary);
+        channels.compute(player.getGame().getCode(), (code, channel) -> {
+            final var current = Objects.isNull(channel) ? openChannel(code) : channel;
+            current.replace(subscriber);
+            return current;
         });
-        return emitters.get(emitterKey);
+    }
+
+    @Override
+    public void removeSession(Player player, WebSocketSession session) {
+        final var channel = channels.get(player.getGame().getCode());
+        if (Objects.nonNull(channel)
+                && channel.subscribers.get(player.getId()) instanceof WebSocketSubscriber subscriber
+                && subscriber.session == session) {
+            subscriber.disconnect();
+        }
     }
 
     @Override
     public void closeEmitters(Game game) {
-        emitters.forEach((key, value) -> {
-            if (!filterByGame(game, key)) {
+        channels.computeIfPresent(game.getCode(), (code, channel) -> {
+            channel.subscribers.values().forEach(Subscriber::close);
+            updateBus.unsubscribe(code);
+            return null;
+        });
+    }
+
+    @Override
+    public void sendPing() {
+        final var now = System.currentTimeMillis();
+        final var idleTimeout = pingProperties.idleTimeout();
+        heartbeats.advance(now, subscriber -> {
+            // Dropping subscribers that are gone from the wheel
+            if (subscriber.done.get()) {
+                return;
+            }
+
+            // Pinging only if nothing was written since, or is about to be
+            final var lastWriteAt = subscriber.lastWriteAt;
+            if (now - lastWriteAt >= idleTimeout && subscriber.queue.isEmpty() && subscriber.sendStartedAt == 0) {
+                subscriber.offer(pingFrame);
+                pingedCount.increment();
+                heartbeats.schedule(subscriber, now + idleTimeout);
                 return;
             }
-            value.complete();
+            heartbeats.schedule(subscriber, Math.max(lastWriteAt, now) + idleTimeout);
         });
     }
 
     @Override
-    public void sendUpdate(Game game, UpdatePayload<?> payload) {
-        sendUpdate(emitterKey -> filterByGame(game, emitterKey), payload);
+    public UpdateMetricsResponse getMetrics() {
+        // Only reporting aggregates, as games' codes are enough to join their lobbies
+        var connectionsCount = 0;
+        var webSocketsCount = 0;
+        var maxConnectionsCount = 0;
+        var maxQueueDepth = 0;
+        for (Channel channel : channels.values()) {
+            final var gameSubscribers = channel.subscribers.values();
+            final var queueDepth = gameSubscribers.stream().mapToInt(subscriber -> subscriber.queue.size()).sum();
+            connectionsCount += gameSubscribers.size();
+            webSocketsCount += (int) gameSubscribers.stream().filter(WebSocketSubscriber.class::isInstance).count();
+            maxConnectionsCount = Math.max(maxConnectionsCount, gameSubscribers.size());
+            maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+        }
+
+        return UpdateMetricsResponse.builder()
+                .gamesCount(channels.size())
+                .connectionsCount(connectionsCount)
+                .webSocketsCount(webSocketsCount)
+                .droppedCount(droppedCount.sum())
+                .evictedCount(evictedCount.sum())
+                .replayedCount(replayedCount.sum())
+                .resyncedCount(resyncedCount.sum())
+                .pingedCount(pingedCount.sum())
+                .maxConnectionsCount(maxConnectionsCount)
+                .maxQueueDepth(maxQueueDepth)
+                .build();
     }
 
-    @Override
-    public void sendPing() {
-        sendUpdate(emitterKey -> true, new PingUpdatePayload());
+    private void checkChannels() {
+        final var now = System.currentTimeMillis();
+        channels.forEach((code, channel) -> {
+            // Evicting subscribers stuck on a send
+            channel.subscribers.values().forEach(subscriber -> {
+                final var sendStartedAt = subscriber.sendStartedAt;
+                if (sendStartedAt > 0 && now - sendStartedAt > properties.stallTimeout()) {
+                    subscriber.evict("send stalled for " + (now - sendStartedAt) + "ms", 0);
+                }
+            });
+
+            // Dropping the channel, along with its replay buffer, if no one listened to it for a while
+            channels.computeIfPresent(code, (key, current) -> {
+                if (!current.isIdle(now)) {
+                    return current;
+                }
+                updateBus.unsubscribe(key);
+                return null;
+            });
+        });
+    }
+
+    private Channel openChannel(String code) {
+        // Listening to the game's updates published by any node
+        updateBus.subscribe(code, this::publish);
+        return new Channel(code);
+    }
+
+    private void publish(String code, Integer step, List<UpdateFrame> frames) {
+        channels.computeIfPresent(code, (key, channel) -> {
+            channel.publish(step, frames);
+            return channel;
+        });
     }
 
-    private void sendUpdate(Predicate<String> predicate, UpdatePayload<?> payload) {
-        emitters.entrySet().stream().filter(entry -> predicate.test(entry.getKey())).forEach(entry -> {
+    private void removeSubscriber(String code, long playerId, Subscriber subscriber) {
+        // Removing only the given subscriber, while keeping the channel for reconnecting clients
+        final var channel = channels.get(code);
+        if (Objects.nonNull(channel)) {
+            channel.subscribers.remove(playerId, subscriber);
+        }
+    }
+
+    /**
+     * Game's stream of updates, where each frame is identified by an event ID of
+     * the form <code>epoch-sequence</code>. The sequence increases by one per frame,
+     * while the epoch is the time the channel was opened, so that IDs issued
+     * before a restart never match. The last frames are kept in a ring buffer to
+     * replay to reconnecting clients. The channel's methods are called within
+     * the channels map's lock of the game.
+     */
+    private class Channel {
+
+        private final String code;
+        private final long epoch = System.currentTimeMillis();
+        private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+        private final UpdateFrame[] buffer = new UpdateFrame[properties.replayCapacity()];
+        private long lastSequence = 0;
+        private long lastActiveAt = epoch;
+
+        private Channel(String code) {
+            this.code = code;
+        }
+
+        private void publish(Integer step, List<UpdateFrame> frames) {
+            final var sequence = lastSequence + 1;
+            UpdateFrame frame = frames.getFirst();
+            if (frames.size() > 1) {
+                try {
+                    frame = UpdateFrame.batch(mapper, code, step, sequence, frames);
+                } catch (IOException ex) {
+                    // Falling back to sending updates one by one
+                    log.error("Unable to batch {} updates of game: {}", frames.size(), code, ex);
+                    frames.forEach(single -> publish(step, List.of(single)));
+                    return;
+                }
+            }
+
+            final var identified = frame.withId(epoch + "-" + sequence);
+            buffer[(int) (sequence % buffer.length)] = identified;
+            lastSequence = sequence;
+            lastActiveAt = System.currentTimeMillis();
+            subscribers.values().forEach(subscriber -> subscriber.offer(identified));
+        }
+
+        private void replace(Subscriber subscriber) {
+            // Closing the player's previous connection, once its pending frames are sent
+            final var previous = subscribers.put(subscriber.playerId, subscriber);
+            if (Objects.nonNull(previous)) {
+                previous.close();
+            }
+            lastActiveAt = System.currentTimeMillis();
+        }
+
+        private void replay(Subscriber subscriber, String lastEventId) {
+            final var missed = getFramesAfter(lastEventId);
+            if (Objects.nonNull(missed)) {
+                missed.forEach(subscriber::offer);
+                replayedCount.add(missed.size());
+                log.debug("Replaying {} frames to player {} of game {}", missed.size(), subscriber.playerId, code);
+                return;
+            }
+
+            // Asking the client to reload the game, since the missed frames are gone
             try {
-                entry.getValue().send(payload, MediaType.APPLICATION_JSON);
-            } catch (IOException ex) {
+                subscriber.offer(UpdateFrame.encode(mapper, new ResyncUpdatePayload(code)));
+                resyncedCount.increment();
+                log.info("Resyncing player {} of game {} from event: {}", subscriber.playerId, code, lastEventId);
+            } catch (JsonProcessingException ex) {
+                log.error("Unable to serialize resync payload", ex);
+            }
+        }
+
+        /**
+         * @return Frames after the event in order, or <code>null</code> if they're not all buffered
+         */
+        private List<UpdateFrame> getFramesAfter(String lastEventId) {
+            final var separator = lastEventId.indexOf('-');
+            final long lastEpoch;
+            final long sequence;
+            try {
+                lastEpoch = Long.parseLong(lastEventId.substring(0, Math.max(separator, 0)));
+                sequence = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+
+            final var bufferedCount = Math.min(lastSequence, buffer.length);
+            if (lastEpoch != epoch || sequence > lastSequence || sequence < lastSequence - bufferedCount) {
+                return null;
+            }
+
+            final var frames = new ArrayList<UpdateFrame>((int) (lastSequence - sequence));
+            for (long next = sequence + 1; next <= lastSequence; next++) {
+                frames.add(buffer[(int) (next % buffer.length)]);
+            }
+            return frames;
+        }
+
+        private boolean isIdle(long now) {
+            return subscribers.isEmpty() && now - lastActiveAt > IDLE_CHANNEL_TIMEOUT;
+        }
+
+    }
+
+    /**
+     * Player's connection with a bounded queue of outbound frames. Frames are
+     * sent in order by at most one writer thread at a time, so that callers
+     * never wait on the player's connection.
+     */
+    private abstract class Subscriber {
+
+        private final String code;
+        private final long playerId;
+        private final BlockingQueue<UpdateFrame> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean done = new AtomicBoolean(false);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private volatile boolean closing = false;
+
+        // Time at which the in-flight send started, or 0 if not sending
+        private volatile long sendStartedAt = 0;
+
+        // Time at which the last send completed, or the subscriber was created
+        private volatile long lastWriteAt = System.currentTimeMillis();
+
+        private Subscriber(String code, long playerId) {
+            this.code = code;
+            this.playerId = playerId;
+
+            // Checking for idleness once the subscriber might be idle
+            if (pingProperties.enabled()) {
+                heartbeats.schedule(this, lastWriteAt + pingProperties.idleTimeout());
+            }
+        }
+
+        protected abstract void write(UpdateFrame frame) throws IOException;
+
+        protected abstract void complete();
+
+        private void offer(UpdateFrame frame) {
+            if (done.get()) {
+                return;
+            }
+
+            // Disconnecting the subscriber if it fell too far behind
+            if (!queue.offer(frame)) {
+                evict("queue overflowed " + properties.queueCapacity() + " frames", 1);
+                return;
+            }
+            startDrain();
+        }
+
+        private void close() {
+            // Completing the connection once the pending frames are sent
+            closing = true;
+            startDrain();
+        }
+
+        private void evict(String reason, int rejectedCount) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+
+            final var dropped = queue.size() + rejectedCount;
+            queue.clear();
+            remove();
+            evictedCount.increment();
+            droppedCount.add(dropped);
+            log.warn("Evicted player {} of game {} after dropping {} frames, {}", playerId, code, dropped, reason);
+
+            // Completing the connection from the writer, as a stalled send holds the connection's lock
+            startDrain();
+        }
+
+        protected void remove() {
+            removeSubscriber(code, playerId, this);
+        }
+
+        protected void disconnect() {
+            // Client is gone, dropping its pending frames
+            done.set(true);
+            completed.set(true);
+            queue.clear();
+            remove();
+        }
+
+        private void startDrain() {
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                UpdateFrame frame;
+                while (!done.get() && Objects.nonNull(frame = queue.poll())) {
+                    send(frame);
+                }
+                if (closing && queue.isEmpty()) {
+                    done.set(true);
+                }
+                if (done.get() && completed.compareAndSet(false, true)) {
+                    complete();
+                }
+                draining.set(false);
+
+                // Re-checking for a frame offered after the last poll, but before releasing the subscriber
+            } while ((!queue.isEmpty() || closing || done.get()) && !completed.get() && draining.compareAndSet(false, true));
+        }
+
+        private void send(UpdateFrame frame) {
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                write(frame);
+            } catch (IOException | IllegalStateException ex) {
                 log.error(ex.getMessage());
                 log.debug(ex);
+                disconnect();
+            } finally {
+                lastWriteAt = System.currentTimeMillis();
+                sendStartedAt = 0;
             }
-        });
+        }
+
     }
 
-    private String getEmitterKey(Player player) {
-        return String.format("game-%s-player-%s", player.getGame().getCode(), player.getId());
+    private class SseSubscriber extends Subscriber {
+
+        private final SseEmitter emitter = new SseEmitter(-1L);
+
+        private SseSubscriber(String code, long playerId) {
+            super(code, playerId);
+            emitter.onCompletion(this::remove);
+            emitter.onError(ex -> remove());
+        }
+
+        @Override
+        protected void write(UpdateFrame frame) throws IOException {
+            emitter.send(frame.getEvent());
+        }
+
+        @Override
+        protected void complete() {
+            emitter.complete();
+        }
+
     }
 
-    private boolean filterByGame(Game game, String emitterKey) {
-        final var prefix = String.format("game-%s", game.getCode());
-        return emitterKey.startsWith(prefix);
+    /**
+     * Sends frames as CBOR binary messages, or as JSON text messages. Command
+     * responses are sent on the same session, hence sends lock on the session.
+     */
+    private class WebSocketSubscriber extends Subscriber {
+
+        private final WebSocketSession session;
+        private final boolean binary;
+
+        private WebSocketSubscriber(String code, long playerId, WebSocketSession session, boolean binary) {
+            super(code, playerId);
+            this.session = session;
+            this.binary = binary;
+        }
+
+        @Override
+        protected void write(UpdateFrame frame) throws IOException {
+            final var message = binary ? new BinaryMessage(frame.getCbor()) : new TextMessage(frame.getJson());
+            synchronized (session) {
+                session.sendMessage(message);
+            }
+        }
+
+        @Override
+        protected void complete() {
+            try {
+                session.close(CloseStatus.NORMAL);
+            } catch (IOException ex) {
+                log.debug(ex);
+            }
+        }
+
     }
 
 }
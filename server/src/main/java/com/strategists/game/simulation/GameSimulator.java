@@ -0,0 +1,205 @@
+package com.strategists.game.simulation;
+
+import com.strategists.game.entity.Activity;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.GameMap;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.entity.PlayerLand;
+import com.strategists.game.entity.Rent;
+import com.strategists.game.response.GameResponse;
+import com.strategists.game.simulation.bot.Bot;
+import com.strategists.game.update.payload.BankruptcyUpdatePayload;
+import com.strategists.game.update.payload.CreateUpdatePayload;
+import com.strategists.game.update.payload.InvestUpdatePayload;
+import com.strategists.game.update.payload.MoveUpdatePayload;
+import com.strategists.game.update.payload.RentUpdatePayload;
+import com.strategists.game.update.payload.StartUpdatePayload;
+import com.strategists.game.update.payload.TurnUpdatePayload;
+import com.strategists.game.update.payload.WinUpdatePayload;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a complete game on plain entities, without Spring or JPA, following the
+ * same turn rules as GameService's playTurn method. Games' update frames are
+ * written as history files, if enabled, leaving out TREND frames as trends aren't
+ * simulated.
+ */
+public class GameSimulator {
+
+    private final SimulationConfiguration configuration;
+    private final GameMap gameMap;
+    private final List<Bot> bots;
+    private final File historyDirectory;
+
+    public GameSimulator(SimulationConfiguration configuration, GameMap gameMap, List<Bot> bots) {
+        this.configuration = configuration;
+        this.gameMap = gameMap;
+        this.bots = bots;
+        this.historyDirectory = Objects.nonNull(configuration.historyDirectory()) ? new File(configuration.historyDirectory()) : null;
+    }
+
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
+    public List<Bot> getBots() {
+        return bots;
+    }
+
+    public GameResult simulate(String code, RandomGenerator random) {
+        final var game = createGame(code);
+        final var lands = createLands(game);
+        final var players = createPlayers(game);
+        final var result = new GameResult(lands.size());
+        final var history = SimulationHistory.open(historyDirectory, game);
+        history.append(() -> new CreateUpdatePayload(Activity.ofCreate(players.getFirst()), GameResponse.builder()
+                .game(game)
+                .players(players)
+                .lands(lands)
+                .build()));
+
+        // Randomly assigning the first turn
+        int turn = random.nextInt(players.size());
+        int activeCount = players.size();
+        final var first = players.get(turn);
+        first.setTurn(true);
+        history.append(() -> new StartUpdatePayload(Activity.ofStart(first), first));
+
+        // Numbering rents, as history's rents are told apart by their IDs
+        long rentId = 0;
+
+        while (activeCount > 1 && game.getCurrentStep() < configuration.maxSteps()) {
+            game.setCurrentStep(game.getCurrentStep() + 1);
+
+            // Assigning turn to next player who is not bankrupt
+            final var previous = players.get(turn);
+            do {
+                turn = (turn + 1) % players.size();
+            } while (players.get(turn).isBankrupt());
+            final var player = players.get(turn);
+            previous.setTurn(false);
+            player.setTurn(true);
+            history.append(() -> new TurnUpdatePayload(Activity.ofTurn(previous, player), player, previous));
+
+            // Moving the current player to a new position
+            final var move = random.nextInt(game.getDiceSize()) + 1;
+            player.setIndex((player.getIndex() + move) % lands.size());
+            final var land = lands.get(player.getIndex());
+            history.append(() -> new MoveUpdatePayload(Activity.ofMove(player, move, land), player));
+
+            // Paying rent to players on current land
+            final var rents = Rent.fromLand(player, land);
+            for (Rent rent : rents) {
+                rent.setId(++rentId);
+                rent.getTargetPlayer().addRent(rent);
+                player.addPaidRent(rent);
+                result.landRents[player.getIndex()] += rent.getRentAmount();
+            }
+            if (!rents.isEmpty()) {
+                final var targets = rents.stream().map(Rent::getTargetPlayer).distinct().toList();
+                history.append(() -> new RentUpdatePayload(rents.stream().map(Activity::ofRent).toList(), player, targets));
+            }
+
+            // Checking if player is bankrupt
+            if (player.getCash() <= 0) {
+                player.setState(Player.State.BANKRUPT);
+                player.setBankruptcyOrder(players.size() - activeCount + 1);
+                player.invalidateLandsMarketValue();
+                activeCount--;
+                history.append(() -> {
+                    final var bankruptLands = player.getPlayerLands().stream().map(PlayerLand::getLand).toList();
+                    final var impactedPlayers = new HashSet<Player>();
+                    impactedPlayers.add(player);
+                    bankruptLands.forEach(bankruptLand -> bankruptLand.getPlayerLands().forEach(pl -> impactedPlayers.add(pl.getPlayer())));
+                    return new BankruptcyUpdatePayload(Activity.ofBankruptcy(player), bankruptLands, impactedPlayers);
+                });
+                continue;
+            }
+
+            // Investing in the current land as per player's bot
+            final var ownership = bots.get(turn).getOwnership(player, land, random);
+            if (ownership > 0) {
+                final var buyAmount = land.getMarketValue() * (ownership / 100);
+                player.addLand(land, ownership, buyAmount);
+                result.landInvestments[player.getIndex()] += buyAmount;
+                history.append(() -> new InvestUpdatePayload(Activity.ofInvest(player, land, ownership), land,
+                        land.getPlayerLands().stream().map(PlayerLand::getPlayer).toList()));
+            }
+        }
+
+        result.steps = game.getCurrentStep();
+        final var winner = activeCount == 1 ? players.stream().filter(Player::isActive).findFirst().orElseThrow() : null;
+        result.winner = Objects.nonNull(winner) ? players.indexOf(winner) : -1;
+        if (Objects.nonNull(winner)) {
+            history.append(() -> new WinUpdatePayload(Activity.ofWin(winner), winner));
+        }
+        history.close(game, Objects.nonNull(winner));
+        return result;
+    }
+
+    private Game createGame(String code) {
+        final var game = new Game();
+        game.setCode(code);
+        game.setState(Game.State.ACTIVE);
+        game.setCurrentStep(1);
+        game.setGameMapId(gameMap.getId());
+        game.setPlayerBaseCash(gameMap.getPlayerBaseCash());
+        game.setDiceSize(configuration.diceSize());
+        game.setRentFactor(configuration.rentFactor());
+        return game;
+    }
+
+    private List<Land> createLands(Game game) {
+        final var lands = new ArrayList<Land>(gameMap.getLands().size());
+        for (Land land : gameMap.newLands()) {
+            land.setId((long) lands.size() + 1);
+            land.setGame(game);
+            lands.add(land);
+        }
+        return lands;
+    }
+
+    private List<Player> createPlayers(Game game) {
+        final var players = new ArrayList<Player>(bots.size());
+        for (Bot bot : bots) {
+            final var id = players.size() + 1;
+            final var player = new Player(game, String.format("bot-%s@strategists.com", id));
+            player.setId((long) id);
+            player.setUsername(bot.getName() + "-" + id);
+            player.setState(Player.State.ACTIVE);
+            player.setHost(players.isEmpty());
+            player.setBankruptcyOrder(bots.size());
+            player.setPlayerLands(new ArrayList<>());
+            player.setReceivedRents(new ArrayList<>());
+            player.setPaidRents(new ArrayList<>());
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Outcome of a simulated game. Winner is the winning player's seat, or -1 if
+     * the game didn't finish within the maximum steps.
+     */
+    public static class GameResult {
+
+        int winner;
+        int steps;
+        final double[] landInvestments;
+        final double[] landRents;
+
+        GameResult(int landsCount) {
+            this.landInvestments = new double[landsCount];
+            this.landRents = new double[landsCount];
+        }
+
+    }
+
+}
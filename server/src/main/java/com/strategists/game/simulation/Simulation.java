@@ -0,0 +1,77 @@
+package com.strategists.game.simulation;
+
+import com.strategists.game.entity.GameMap;
+import com.strategists.game.simulation.bot.Bot;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.util.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless entry point simulating complete games between bots, to tune game and
+ * map configurations without manual play. Runs without the Spring context, using
+ * the repackaged jar's launcher since classes are kept under BOOT-INF/classes, ex.
+ * <pre>
+ * java -cp strategists-service.jar -Dloader.main=com.strategists.game.simulation.Simulation \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher --maps=india --games=100000 --bots=greedy,cautious,random
+ * </pre>
+ * Won games are also written as history files for the predictions service to
+ * train on, if "--history-directory" is set.
+ */
+@Log4j2
+public class Simulation {
+
+    public static void main(String[] args) throws IOException {
+        final var configuration = SimulationConfiguration.fromArgs(args);
+        log.info(configuration);
+
+        final var bots = configuration.bots().stream().map(Bot::of).toList();
+        Assert.isTrue(bots.size() >= 2, "At least 2 bots are required for a simulation!");
+
+        // Checking if history directory exists, if history export is enabled
+        if (Objects.nonNull(configuration.historyDirectory())) {
+            final var historyDirectory = new File(configuration.historyDirectory());
+            if (!historyDirectory.exists()) {
+                Assert.state(historyDirectory.mkdirs(), "Unable to create directory: " + historyDirectory);
+                log.info("Created directory: {}", historyDirectory);
+            }
+        }
+
+        try (final var pool = new ForkJoinPool(configuration.parallelism())) {
+            for (String mapId : configuration.mapIds()) {
+                final var gameMap = loadGameMap(configuration, mapId);
+                final var simulator = new GameSimulator(configuration, gameMap, bots);
+
+                final var start = System.currentTimeMillis();
+                final var stats = pool.invoke(new SimulationTask(simulator, configuration, 0, configuration.gamesCount()));
+                final var elapsed = System.currentTimeMillis() - start;
+
+                log.info(stats.getReport(gameMap, bots));
+                log.info("Simulated {} games of {} in {} ms", stats.getGamesCount(), mapId, elapsed);
+            }
+        }
+    }
+
+    private static GameMap loadGameMap(SimulationConfiguration configuration, String mapId) throws IOException {
+        final var fileName = mapId + ".json";
+        final GameMap gameMap;
+        if (Objects.nonNull(configuration.mapsDirectory())) {
+            try (InputStream json = Files.newInputStream(new File(configuration.mapsDirectory(), fileName).toPath())) {
+                gameMap = GameMap.from(json);
+            }
+        } else {
+            try (InputStream json = Simulation.class.getResourceAsStream("/maps/" + fileName)) {
+                Assert.notNull(json, mapId + " game map doesn't exist!");
+                gameMap = GameMap.from(json);
+            }
+        }
+        Assert.notNull(gameMap, mapId + " game map couldn't be parsed!");
+        return gameMap;
+    }
+
+}
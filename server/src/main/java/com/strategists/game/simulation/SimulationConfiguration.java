@@ -0,0 +1,68 @@
+package com.strategists.game.simulation;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of a simulation run, parsed from "--key=value" arguments. Defaults
+ * match the server's default game configurations.
+ */
+public record SimulationConfiguration(List<String> mapIds,
+                                      String mapsDirectory,
+                                      int gamesCount,
+                                      List<String> bots,
+                                      double rentFactor,
+                                      int diceSize,
+                                      int maxSteps,
+                                      long seed,
+                                      int parallelism,
+                                      String historyDirectory) {
+
+    public static SimulationConfiguration fromArgs(String[] args) {
+        final var options = new HashMap<String, String>();
+        for (String arg : args) {
+            final var split = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(split[0], split.length > 1 ? split[1] : "true");
+        }
+
+        return new SimulationConfiguration(
+                split(options, "maps", "india"),
+                options.get("maps-directory"),
+                Integer.parseInt(options.getOrDefault("games", "100000")),
+                split(options, "bots", "greedy,cautious,random"),
+                Double.parseDouble(options.getOrDefault("rent-factor", "0.2")),
+                Integer.parseInt(options.getOrDefault("dice-size", "6")),
+                Integer.parseInt(options.getOrDefault("max-steps", "1000")),
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(System.nanoTime()))),
+                Integer.parseInt(options.getOrDefault("parallelism", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                options.get("history-directory")
+        );
+    }
+
+    private static List<String> split(Map<String, String> options, String key, String defaultValue) {
+        return Arrays.stream(options.getOrDefault(key, defaultValue).split(",")).map(String::trim).toList();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "\n--------------------------------------------------" +
+                "\nSimulation:" +
+                "\n> Maps: " + mapIds +
+                "\n> Maps Directory: " + (mapsDirectory == null ? "classpath:maps" : mapsDirectory) +
+                "\n> Games Count: " + gamesCount +
+                "\n> Bots: " + bots +
+                "\n> Rent Factor: " + rentFactor +
+                "\n> Dice Size: " + diceSize +
+                "\n> Max Steps: " + maxSteps +
+                "\n> Seed: " + seed +
+                "\n> Parallelism: " + parallelism +
+                "\n> History Directory: " + (historyDirectory == null ? "disabled" : historyDirectory) +
+                "\n--------------------------------------------------";
+    }
+
+}
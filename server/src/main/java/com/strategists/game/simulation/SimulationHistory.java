@@ -0,0 +1,102 @@
+package com.strategists.game.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.entity.Game;
+import com.strategists.game.update.payload.UpdatePayload;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Simulated game's history in the same format as the server's history files, i.e.
+ * update frames' JSON one per line, so that the predictions service can train on
+ * simulated games. Frames are journaled while the game is played, and the journal
+ * is kept as map-code-timestamp.jsonl only if the game has a winner, as the server
+ * only exports won games.
+ */
+public class SimulationHistory {
+
+    private static final String FILE_EXTENSION = ".jsonl";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SimulationHistory DISABLED = new SimulationHistory(null, null, null);
+
+    private final File directory;
+    private final Path path;
+    private final OutputStream out;
+
+    private SimulationHistory(File directory, Path path, OutputStream out) {
+        this.directory = directory;
+        this.path = path;
+        this.out = out;
+    }
+
+    /**
+     * @param directory Directory to export history to, null if disabled
+     * @param game      Simulated game
+     * @return Game's history, ignoring frames if history export is disabled
+     */
+    public static SimulationHistory open(File directory, Game game) {
+        if (Objects.isNull(directory)) {
+            return DISABLED;
+        }
+
+        final var path = new File(directory, game.getCode() + JOURNAL_EXTENSION).toPath();
+        try {
+            return new SimulationHistory(directory, path, new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Appends the payload's frame, encoded the same way as the server's update
+     * handlers encode it. Payloads are only created if history export is enabled.
+     *
+     * @param payload Update payload's supplier
+     */
+    public void append(Supplier<UpdatePayload<?>> payload) {
+        if (Objects.isNull(out)) {
+            return;
+        }
+
+        try {
+            out.write(MAPPER.writeValueAsBytes(payload.get()));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Exports the journal as a history file if the game has a winner, else deletes it.
+     *
+     * @param game Simulated game
+     * @param won  Whether the game has a winner
+     */
+    public void close(Game game, boolean won) {
+        if (Objects.isNull(out)) {
+            return;
+        }
+
+        try {
+            out.close();
+            if (won) {
+                final var filename = String.format("%s-%s-%s%s", game.getGameMapId(), game.getCode(), System.currentTimeMillis(), FILE_EXTENSION);
+                Files.move(path, new File(directory, filename).toPath());
+            } else {
+                Files.delete(path);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
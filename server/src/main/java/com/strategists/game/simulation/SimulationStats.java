@@ -0,0 +1,123 @@
+package com.strategists.game.simulation;
+
+import com.strategists.game.entity.GameMap;
+import com.strategists.game.simulation.bot.Bot;
+
+import java.util.List;
+
+/**
+ * Aggregated outcome of simulated games. Instances are filled by a single thread
+ * and merged once the threads are done.
+ */
+public class SimulationStats {
+
+    private long gamesCount;
+    private long finishedCount;
+    private long stepsSum;
+    private final long[] wins;
+    private final long[] stepsCounts;
+    private final double[] landInvestments;
+    private final double[] landRents;
+
+    public SimulationStats(int playersCount, int landsCount, int maxSteps) {
+        this.wins = new long[playersCount];
+        this.stepsCounts = new long[maxSteps + 1];
+        this.landInvestments = new double[landsCount];
+        this.landRents = new double[landsCount];
+    }
+
+    public void add(GameSimulator.GameResult result) {
+        gamesCount++;
+        if (result.winner >= 0) {
+            finishedCount++;
+            wins[result.winner]++;
+        }
+        stepsSum += result.steps;
+        stepsCounts[result.steps]++;
+        for (int i = 0; i < landInvestments.length; i++) {
+            landInvestments[i] += result.landInvestments[i];
+            landRents[i] += result.landRents[i];
+        }
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        gamesCount += other.gamesCount;
+        finishedCount += other.finishedCount;
+        stepsSum += other.stepsSum;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        for (int i = 0; i < stepsCounts.length; i++) {
+            stepsCounts[i] += other.stepsCounts[i];
+        }
+        for (int i = 0; i < landInvestments.length; i++) {
+            landInvestments[i] += other.landInvestments[i];
+            landRents[i] += other.landRents[i];
+        }
+        return this;
+    }
+
+    public long getGamesCount() {
+        return gamesCount;
+    }
+
+    public double getWinRate(int seat) {
+        return gamesCount == 0 ? 0 : (double) wins[seat] / gamesCount;
+    }
+
+    public double getAverageSteps() {
+        return gamesCount == 0 ? 0 : (double) stepsSum / gamesCount;
+    }
+
+    /**
+     * Game length below which the given fraction of the games ended.
+     *
+     * @param fraction Between 0 and 1
+     * @return Steps count
+     */
+    public int getStepsPercentile(double fraction) {
+        final var target = (long) Math.ceil(fraction * gamesCount);
+        long count = 0;
+        for (int steps = 0; steps < stepsCounts.length; steps++) {
+            count += stepsCounts[steps];
+            if (count >= target && count > 0) {
+                return steps;
+            }
+        }
+        return stepsCounts.length - 1;
+    }
+
+    /**
+     * Rents collected by the owners of a land per unit of cash invested in it.
+     *
+     * @param index Land's index on the map
+     * @return Return on investment, 0 if nobody invested in the land
+     */
+    public double getLandROI(int index) {
+        return landInvestments[index] == 0 ? 0 : landRents[index] / landInvestments[index];
+    }
+
+    public String getReport(GameMap gameMap, List<Bot> bots) {
+        final var builder = new StringBuilder();
+        builder.append("\n--------------------------------------------------");
+        builder.append("\nSimulation Results (").append(gameMap.getName()).append("):");
+        builder.append(String.format("%n> Games: %d (%d finished)", gamesCount, finishedCount));
+        builder.append(String.format("%n> Game Length (steps): avg %.1f, p50 %d, p90 %d, p99 %d",
+                getAverageSteps(), getStepsPercentile(0.5), getStepsPercentile(0.9), getStepsPercentile(0.99)));
+
+        builder.append("\n> Win Rates:");
+        for (int seat = 0; seat < bots.size(); seat++) {
+            builder.append(String.format("%n  %d. %-10s %6.2f%%", seat + 1, bots.get(seat).getName(), 100 * getWinRate(seat)));
+        }
+
+        builder.append("\n> Land ROI (rents / investments per game):");
+        for (int i = 0; i < landInvestments.length; i++) {
+            builder.append(String.format("%n  %-20s %10.2f / %10.2f = %6.3f", gameMap.getLands().get(i).getName(),
+                    landRents[i] / Math.max(1, gamesCount), landInvestments[i] / Math.max(1, gamesCount), getLandROI(i)));
+        }
+
+        builder.append("\n--------------------------------------------------");
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.strategists.game.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates a range of games, splitting the range across the fork/join pool
+ * until it's small enough to be simulated sequentially.
+ */
+public class SimulationTask extends RecursiveTask<SimulationStats> {
+
+    private static final int THRESHOLD = 256;
+
+    // Spreading consecutive games' seeds apart
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Naming games after their seeds, so that history files of different runs don't collide
+    private static final String CODE_PREFIX = "SIM";
+
+    private final GameSimulator simulator;
+    private final SimulationConfiguration configuration;
+    private final int from;
+    private final int to;
+
+    public SimulationTask(GameSimulator simulator, SimulationConfiguration configuration, int from, int to) {
+        this.simulator = simulator;
+        this.configuration = configuration;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (to - from > THRESHOLD) {
+            final var mid = (from + to) >>> 1;
+            final var left = new SimulationTask(simulator, configuration, from, mid);
+            left.fork();
+            final var right = new SimulationTask(simulator, configuration, mid, to).compute();
+            return left.join().merge(right);
+        }
+
+        final var stats = new SimulationStats(simulator.getBots().size(), simulator.getGameMap().getLands().size(), configuration.maxSteps());
+        for (int i = from; i < to; i++) {
+            // Seeding every game on its own, so that results don't depend on the parallelism
+            final var seed = configuration.seed() + i * GOLDEN_GAMMA;
+            stats.add(simulator.simulate(CODE_PREFIX + Long.toHexString(seed).toUpperCase(), new SplittableRandom(seed)));
+        }
+        return stats;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.strategists.game.simulation.bot;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy deciding a simulated player's investment on the land they moved to.
+ */
+public interface Bot {
+
+    String getName();
+
+    /**
+     * Ownership to buy on the player's current land.
+     *
+     * @param player Current player
+     * @param land   Land the player moved to
+     * @param random Game's random generator
+     * @return Ownership out of 100, 0 to skip investing
+     */
+    double getOwnership(Player player, Land land, RandomGenerator random);
+
+    /**
+     * Maximum whole ownership the player can buy on the land, following the same
+     * rules as PlayerService's invest method.
+     *
+     * @param player Current player
+     * @param land   Land the player moved to
+     * @return Ownership out of 100, 0 if player can't invest
+     */
+    default double getMaxOwnership(Player player, Land land) {
+        final var marketValue = land.getMarketValue();
+        if (marketValue <= 0 || player.getCash() <= 0) {
+            return 0;
+        }
+
+        // Buying amount must be less than player's cash
+        final var affordable = Math.ceil(100 * player.getCash() / marketValue) - 1;
+        final var available = Math.floor(100 - land.getTotalOwnership());
+        return Math.max(0, Math.min(affordable, available));
+    }
+
+    static Bot of(String name) {
+        return switch (name) {
+            case PassiveBot.NAME -> new PassiveBot();
+            case RandomBot.NAME -> new RandomBot();
+            case GreedyBot.NAME -> new GreedyBot();
+            case CautiousBot.NAME -> new CautiousBot();
+            default -> throw new IllegalArgumentException("No bot found with name: " + name);
+        };
+    }
+
+}
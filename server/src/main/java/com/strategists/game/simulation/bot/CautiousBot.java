@@ -0,0 +1,32 @@
+package com.strategists.game.simulation.bot;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Invests at most a quarter of the player's cash, keeping the rest to pay rents.
+ */
+public class CautiousBot implements Bot {
+
+    static final String NAME = "cautious";
+
+    private static final double MAX_CASH_SHARE = 0.25;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public double getOwnership(Player player, Land land, RandomGenerator random) {
+        final var marketValue = land.getMarketValue();
+        if (marketValue <= 0) {
+            return 0;
+        }
+        final var ownership = Math.floor(100 * MAX_CASH_SHARE * player.getCash() / marketValue);
+        return Math.max(0, Math.min(ownership, getMaxOwnership(player, land)));
+    }
+
+}
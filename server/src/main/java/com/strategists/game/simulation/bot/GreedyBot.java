@@ -0,0 +1,25 @@
+package com.strategists.game.simulation.bot;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Always buys as much of the land as the player can afford.
+ */
+public class GreedyBot implements Bot {
+
+    static final String NAME = "greedy";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public double getOwnership(Player player, Land land, RandomGenerator random) {
+        return getMaxOwnership(player, land);
+    }
+
+}
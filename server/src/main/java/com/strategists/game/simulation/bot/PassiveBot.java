@@ -0,0 +1,25 @@
+package com.strategists.game.simulation.bot;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Never invests, only collects baseline for the other strategies.
+ */
+public class PassiveBot implements Bot {
+
+    static final String NAME = "passive";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public double getOwnership(Player player, Land land, RandomGenerator random) {
+        return 0;
+    }
+
+}
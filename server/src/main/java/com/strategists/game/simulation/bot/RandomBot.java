@@ -0,0 +1,29 @@
+package com.strategists.game.simulation.bot;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Invests half of the time, buying a random ownership of the land.
+ */
+public class RandomBot implements Bot {
+
+    static final String NAME = "random";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public double getOwnership(Player player, Land land, RandomGenerator random) {
+        final var max = getMaxOwnership(player, land);
+        if (max < 1 || random.nextBoolean()) {
+            return 0;
+        }
+        return 1 + random.nextInt((int) max);
+    }
+
+}
@@ -0,0 +1,515 @@
+package com.strategists.game.state;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.LandEvent;
+import com.strategists.game.entity.Player;
+import com.strategists.game.entity.PlayerLand;
+import com.strategists.game.entity.Rent;
+import com.strategists.game.entity.Trend;
+import com.strategists.game.entity.TrendChunk;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-memory aggregate of a game's entities. Services read and mutate these
+ * (detached) entities directly, and record the changes that need to be written
+ * back to the database. The changes are drained by the GameStateService and
+ * flushed to the database in batches.
+ */
+@Getter
+public class GameState {
+
+    private final Game game;
+    private final List<Player> players;
+    private final List<Land> lands;
+    private final TrendStore trendStore = new TrendStore();
+
+    /**
+     * Board index of the game's lands, replaced (never mutated) when lands are added.
+     */
+    private volatile LandIndex landIndex;
+
+    /**
+     * Serializes the flushes of this game's state, so that changes drained by one
+     * flush are always written before the changes drained by the next one.
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * Values of the game's entities as of the last committed change, restored if a
+     * transaction changing them rolls back. Once a change commits, only the
+     * entities it touched are copied again.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Snapshot snapshot;
+
+    /**
+     * Transactions changing this state, while background flushes skip the state so
+     * that uncommitted values aren't written.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger transactions = new AtomicInteger();
+
+    /**
+     * Notified of every change recorded, on the thread recording it.
+     */
+    @Setter
+    @Getter(AccessLevel.NONE)
+    private Consumer<GameState> changeListener = state -> {
+    };
+
+    // Pending changes, guarded by this instance's monitor
+    @Getter(AccessLevel.NONE)
+    private boolean gameDirty;
+
+    @Getter(AccessLevel.NONE)
+    private final Set<Player> dirtyPlayers = newIdentitySet();
+
+    @Getter(AccessLevel.NONE)
+    private final Set<PlayerLand> dirtyPlayerLands = newIdentitySet();
+
+    @Getter(AccessLevel.NONE)
+    private final Set<LandEvent> dirtyLandEvents = newIdentitySet();
+
+    @Getter(AccessLevel.NONE)
+    private final List<Object> removals = new ArrayList<>();
+
+    public GameState(Game game) {
+        this(game, List.of(), List.of(), List.of());
+    }
+
+    public GameState(Game game, List<Player> players, List<Land> lands, List<TrendChunk> trendChunks) {
+        this.game = game;
+        this.players = new CopyOnWriteArrayList<>(players);
+        this.lands = new CopyOnWriteArrayList<>(lands);
+        this.trendStore.load(trendChunks);
+
+        this.players.forEach(GameState::prepare);
+        this.lands.forEach(GameState::prepare);
+        this.landIndex = this.lands.isEmpty() ? LandIndex.EMPTY : LandIndex.of(this.lands);
+        this.snapshot = new Snapshot();
+    }
+
+    public Player getPlayerById(long id) {
+        return players.stream().filter(player -> Objects.equals(player.getId(), id)).findFirst().orElse(null);
+    }
+
+    public Land getLandById(long id) {
+        return landIndex.getLandById(id);
+    }
+
+    public void addPlayer(Player player) {
+        players.add(prepare(player));
+        synchronized (this) {
+            snapshot.listsTouched = true;
+            snapshot.touchedPlayers.add(player);
+        }
+        changed();
+    }
+
+    public void removePlayer(Player player) {
+        players.remove(player);
+        synchronized (this) {
+            dirtyPlayers.remove(player);
+            snapshot.listsTouched = true;
+            snapshot.touchedPlayers.add(player);
+        }
+        changed();
+    }
+
+    public void addLands(Collection<Land> lands) {
+        lands.forEach(GameState::prepare);
+        this.lands.addAll(lands);
+        this.landIndex = LandIndex.of(this.lands);
+        synchronized (this) {
+            snapshot.listsTouched = true;
+            snapshot.touchedLands.addAll(lands);
+        }
+        changed();
+    }
+
+    public List<Trend> getTrends() {
+        return trendStore.getTrends();
+    }
+
+    public List<Trend> getTrends(int fromStep) {
+        return trendStore.getTrends(fromStep);
+    }
+
+    public void addTrends(Collection<Trend> trends) {
+        trendStore.add(trends);
+        changed();
+    }
+
+    public void clearTrends() {
+        trendStore.clear();
+        changed();
+    }
+
+    public synchronized void markDirty(Game game) {
+        gameDirty = true;
+        snapshot.gameTouched = true;
+        changed();
+    }
+
+    public synchronized void markDirty(Player player) {
+        dirtyPlayers.add(player);
+        snapshot.touchedPlayers.add(player);
+        changed();
+    }
+
+    public synchronized void markDirty(PlayerLand playerLand) {
+        dirtyPlayerLands.add(playerLand);
+        touch(playerLand);
+        changed();
+    }
+
+    public synchronized void markDirty(LandEvent landEvent) {
+        dirtyLandEvents.add(landEvent);
+        touch(landEvent);
+        changed();
+    }
+
+    /**
+     * Schedules the entity's row to be deleted.
+     *
+     * @param entity Rent, PlayerLand or LandEvent to remove
+     */
+    public synchronized void remove(Object entity) {
+        dirtyPlayerLands.remove(entity);
+        dirtyLandEvents.remove(entity);
+        removals.add(entity);
+        touch(entity);
+        changed();
+    }
+
+    public synchronized Changes drainChanges() {
+        final var changes = new Changes(
+                gameDirty ? game : null,
+                List.copyOf(dirtyPlayers),
+                List.copyOf(dirtyPlayerLands),
+                List.copyOf(dirtyLandEvents),
+                trendStore.drainChunks(game),
+                List.copyOf(removals)
+        );
+        gameDirty = false;
+        dirtyPlayers.clear();
+        dirtyPlayerLands.clear();
+        dirtyLandEvents.clear();
+        removals.clear();
+        return changes;
+    }
+
+    /**
+     * Puts back the changes that couldn't be flushed, ahead of any change recorded
+     * since they were drained.
+     *
+     * @param changes Drained changes
+     */
+    public synchronized void requeueChanges(Changes changes) {
+        gameDirty = gameDirty || Objects.nonNull(changes.game());
+        dirtyPlayers.addAll(changes.players());
+        dirtyPlayerLands.addAll(changes.playerLands());
+        dirtyLandEvents.addAll(changes.landEvents());
+        trendStore.requeueChunks(changes.trendChunks());
+        removals.addAll(0, changes.removals());
+    }
+
+    /**
+     * @return <code>true</code> while a transaction is changing the state
+     */
+    public boolean isChanging() {
+        return transactions.get() > 0;
+    }
+
+    public void beginTransaction() {
+        transactions.incrementAndGet();
+    }
+
+    /**
+     * Keeps the values of the game's entities as committed by the transaction.
+     */
+    public synchronized void commitTransaction() {
+        commitChanges();
+        transactions.decrementAndGet();
+    }
+
+    /**
+     * Keeps the values of the entities touched since the last committed change, for
+     * changes made outside of a transaction.
+     */
+    public synchronized void commitChanges() {
+        snapshot.refresh();
+    }
+
+    /**
+     * Puts back the values of the game's entities as of the last committed change.
+     * Restored entities touched by the transaction are marked dirty, and rows of
+     * the ones it created are deleted, since a flush during the transaction might
+     * have written the values being discarded.
+     */
+    public synchronized void rollbackTransaction() {
+        final var created = snapshot.getCreated();
+
+        BeanUtils.copyProperties(snapshot.game, game);
+        if (!players.equals(snapshot.playersList)) {
+            players.clear();
+            players.addAll(snapshot.playersList);
+        }
+        if (!lands.equals(snapshot.landsList)) {
+            lands.clear();
+            lands.addAll(snapshot.landsList);
+            landIndex = snapshot.landIndex;
+        }
+
+        snapshot.playerValues.forEach((player, values) -> {
+            BeanUtils.copyProperties(values, player);
+            player.setPlayerLands(new CopyOnWriteArrayList<>(snapshot.playerLands.get(player)));
+            player.setReceivedRents(new CopyOnWriteArrayList<>(snapshot.receivedRents.get(player)));
+            player.setPaidRents(new CopyOnWriteArrayList<>(snapshot.paidRents.get(player)));
+        });
+        snapshot.playerLandValues.forEach((pl, values) -> BeanUtils.copyProperties(values, pl));
+        snapshot.landEventValues.forEach((le, values) -> BeanUtils.copyProperties(values, le));
+        snapshot.landPlayerLands.forEach((land, playerLands) -> {
+            land.setPlayerLands(new CopyOnWriteArrayList<>(playerLands));
+            land.setLandEvents(new CopyOnWriteArrayList<>(snapshot.landEvents.get(land)));
+            land.invalidateMarketValue();
+        });
+        final var staleChunks = trendStore.restore(snapshot.trends);
+
+        // Keeping the changes pending as of the snapshot, along with the touched entities
+        gameDirty = gameDirty || snapshot.gameTouched;
+        dirtyPlayers.removeIf(player -> !snapshot.playerValues.containsKey(player));
+        dirtyPlayerLands.removeIf(pl -> !snapshot.playerLandValues.containsKey(pl));
+        dirtyLandEvents.removeIf(le -> !snapshot.landEventValues.containsKey(le));
+        snapshot.touchedPlayers.stream()
+                .filter(snapshot.playerValues::containsKey)
+                .forEach(player -> {
+                    dirtyPlayers.add(player);
+                    dirtyPlayerLands.addAll(snapshot.playerLands.get(player));
+                });
+        snapshot.touchedLands.stream()
+                .filter(snapshot.landPlayerLands::containsKey)
+                .forEach(land -> {
+                    dirtyPlayerLands.addAll(snapshot.landPlayerLands.get(land));
+                    dirtyLandEvents.addAll(snapshot.landEvents.get(land));
+                });
+
+        // Dropping removals recorded by the transaction, and the ones pending as of the snapshot flushed since
+        final var pending = GameState.<Object>newIdentitySet();
+        pending.addAll(snapshot.removals);
+        removals.removeIf(entity -> !pending.contains(entity));
+        removals.addAll(created);
+        staleChunks.forEach(id -> removals.add(new TrendChunk(id, game, 0, new byte[0])));
+
+        snapshot.rolledBack();
+        transactions.decrementAndGet();
+    }
+
+    private void changed() {
+        changeListener.accept(this);
+    }
+
+    /**
+     * Touches the entities whose collections hold the changed entity.
+     */
+    private void touch(Object entity) {
+        if (entity instanceof PlayerLand pl) {
+            snapshot.touchedPlayers.add(pl.getPlayer());
+            snapshot.touchedLands.add(pl.getLand());
+        } else if (entity instanceof LandEvent le) {
+            snapshot.touchedLands.add(le.getLand());
+        } else if (entity instanceof Rent rent) {
+            snapshot.touchedPlayers.add(rent.getSourcePlayer());
+            snapshot.touchedPlayers.add(rent.getTargetPlayer());
+        }
+    }
+
+    /**
+     * Replaces the entity's collections with thread-safe copies, since these
+     * entities are shared between request threads, scheduled events and the
+     * flusher.
+     */
+    private static Player prepare(Player player) {
+        player.setPlayerLands(copyOf(player.getPlayerLands()));
+        player.setReceivedRents(copyOf(player.getReceivedRents()));
+        player.setPaidRents(copyOf(player.getPaidRents()));
+        return player;
+    }
+
+    private static Land prepare(Land land) {
+        land.setPlayerLands(copyOf(land.getPlayerLands()));
+        land.setLandEvents(copyOf(land.getLandEvents()));
+        return land;
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return Objects.isNull(list) ? new CopyOnWriteArrayList<>() : new CopyOnWriteArrayList<>(list);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copyOf(T entity) {
+        final var copy = BeanUtils.instantiateClass((Class<T>) entity.getClass());
+        BeanUtils.copyProperties(entity, copy);
+        return copy;
+    }
+
+    /**
+     * Values of the game's entities, keyed by the entities' instances. Guarded by
+     * the state's monitor.
+     */
+    private class Snapshot {
+
+        private Game game;
+        private List<Player> playersList;
+        private List<Land> landsList;
+        private LandIndex landIndex;
+        private TrendStore.Snapshot trends;
+        private List<Object> removals;
+        private final Map<Player, Player> playerValues = new IdentityHashMap<>();
+        private final Map<Player, List<PlayerLand>> playerLands = new IdentityHashMap<>();
+        private final Map<Player, List<Rent>> receivedRents = new IdentityHashMap<>();
+        private final Map<Player, List<Rent>> paidRents = new IdentityHashMap<>();
+        private final Map<PlayerLand, PlayerLand> playerLandValues = new IdentityHashMap<>();
+        private final Map<Land, List<PlayerLand>> landPlayerLands = new IdentityHashMap<>();
+        private final Map<Land, List<LandEvent>> landEvents = new IdentityHashMap<>();
+        private final Map<LandEvent, LandEvent> landEventValues = new IdentityHashMap<>();
+
+        // Entities touched since the snapshot was last refreshed
+        private boolean gameTouched;
+        private boolean listsTouched;
+        private final Set<Player> touchedPlayers = newIdentitySet();
+        private final Set<Land> touchedLands = newIdentitySet();
+
+        private Snapshot() {
+            game = copyOf(GameState.this.game);
+            copyLists();
+            GameState.this.players.forEach(this::copy);
+            GameState.this.lands.forEach(this::copy);
+            trends = trendStore.snapshot();
+            removals = List.copyOf(GameState.this.removals);
+        }
+
+        /**
+         * Copies the values of the entities touched since the last refresh.
+         */
+        private void refresh() {
+            if (gameTouched) {
+                game = copyOf(GameState.this.game);
+            }
+            if (listsTouched) {
+                copyLists();
+            }
+            touchedPlayers.forEach(this::copy);
+            touchedLands.forEach(this::copy);
+            trends = trendStore.snapshot();
+            removals = List.copyOf(GameState.this.removals);
+            untouch();
+        }
+
+        /**
+         * Keeps the removals and trends as restored, the entities' values being the
+         * snapshot's already.
+         */
+        private void rolledBack() {
+            trends = trendStore.snapshot();
+            removals = List.copyOf(GameState.this.removals);
+            untouch();
+        }
+
+        /**
+         * @return Entities created since the snapshot, in the touched entities' collections
+         */
+        private List<Object> getCreated() {
+            final var created = new ArrayList<Object>();
+            touchedPlayers.forEach(player -> player.getPlayerLands().stream()
+                    .filter(pl -> !playerLandValues.containsKey(pl))
+                    .forEach(created::add));
+            touchedLands.forEach(land -> {
+                land.getPlayerLands().stream()
+                        .filter(pl -> !playerLandValues.containsKey(pl) && !created.contains(pl))
+                        .forEach(created::add);
+                land.getLandEvents().stream()
+                        .filter(le -> !landEventValues.containsKey(le))
+                        .forEach(created::add);
+            });
+            return created;
+        }
+
+        private void copyLists() {
+            playersList = List.copyOf(GameState.this.players);
+            landsList = List.copyOf(GameState.this.lands);
+            landIndex = GameState.this.landIndex;
+        }
+
+        private void copy(Player player) {
+            final var previous = playerLands.remove(player);
+            if (Objects.nonNull(previous)) {
+                previous.forEach(playerLandValues::remove);
+            }
+            if (!GameState.this.players.contains(player)) {
+                playerValues.remove(player);
+                receivedRents.remove(player);
+                paidRents.remove(player);
+                return;
+            }
+            playerValues.put(player, copyOf(player));
+            playerLands.put(player, List.copyOf(player.getPlayerLands()));
+            receivedRents.put(player, List.copyOf(player.getReceivedRents()));
+            paidRents.put(player, List.copyOf(player.getPaidRents()));
+            player.getPlayerLands().forEach(pl -> playerLandValues.put(pl, copyOf(pl)));
+        }
+
+        private void copy(Land land) {
+            final var previous = landEvents.remove(land);
+            if (Objects.nonNull(previous)) {
+                previous.forEach(landEventValues::remove);
+            }
+            landPlayerLands.put(land, List.copyOf(land.getPlayerLands()));
+            landEvents.put(land, List.copyOf(land.getLandEvents()));
+            land.getLandEvents().forEach(le -> landEventValues.put(le, copyOf(le)));
+        }
+
+        private void untouch() {
+            gameTouched = false;
+            listsTouched = false;
+            touchedPlayers.clear();
+            touchedLands.clear();
+        }
+
+    }
+
+    public record Changes(Game game,
+                          List<Player> players,
+                          List<PlayerLand> playerLands,
+                          List<LandEvent> landEvents,
+                          List<TrendChunk> trendChunks,
+                          List<Object> removals) {
+
+        public boolean isEmpty() {
+            return Objects.isNull(game) && players.isEmpty() && playerLands.isEmpty() && landEvents.isEmpty()
+                    && trendChunks.isEmpty() && removals.isEmpty();
+        }
+
+    }
+
+}
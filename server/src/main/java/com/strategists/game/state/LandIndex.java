@@ -0,0 +1,72 @@
+package com.strategists.game.state;
+
+import com.strategists.game.entity.Land;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of a game's board. Lands are placed on the board in the order
+ * of their IDs, so the land at board index <code>i</code> is the i-th land by ID.
+ * The index is built once the game's lands are created, and answers board
+ * lookups without scanning the lands.
+ */
+public final class LandIndex {
+
+    public static final LandIndex EMPTY = new LandIndex(new Land[0], new long[0], Map.of());
+
+    private final Land[] lands;
+    private final long[] landIds;
+    private final Map<Long, Integer> indices;
+
+    private LandIndex(Land[] lands, long[] landIds, Map<Long, Integer> indices) {
+        this.lands = lands;
+        this.landIds = landIds;
+        this.indices = indices;
+    }
+
+    public static LandIndex of(List<Land> lands) {
+        final var sorted = lands.toArray(Land[]::new);
+        Arrays.sort(sorted, Comparator.comparing(Land::getId));
+
+        final var landIds = new long[sorted.length];
+        final var indices = new HashMap<Long, Integer>(sorted.length * 2);
+        for (int i = 0; i < sorted.length; i++) {
+            landIds[i] = sorted[i].getId();
+            indices.put(landIds[i], i);
+        }
+        return new LandIndex(sorted, landIds, Map.copyOf(indices));
+    }
+
+    /**
+     * @return Number of lands on the board
+     */
+    public int size() {
+        return lands.length;
+    }
+
+    public Land getLand(int index) {
+        return lands[index];
+    }
+
+    public long getLandId(int index) {
+        return landIds[index];
+    }
+
+    /**
+     * @param id Land's ID
+     * @return Land's board index, or -1 if the land isn't on this board
+     */
+    public int indexOf(long id) {
+        return indices.getOrDefault(id, -1);
+    }
+
+    public Land getLandById(long id) {
+        final var index = indexOf(id);
+        return index < 0 ? null : lands[index];
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.strategists.game.state;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.entity.TrendChunkId;
+
+import java.util.Arrays;
+
+/**
+ * Points of a player's or land's trend, kept column-wise in primitive arrays.
+ * Values are kept in cents, the precision they're shown with, which also keeps
+ * the deltas between consecutive points small once encoded into chunks.
+ * Guarded by the owning {@link TrendStore}.
+ */
+public class TrendSeries {
+
+    private final TrendChunk.Series series;
+    private final long entityId;
+    private int[] steps;
+    private long[][] columns;
+    private int size;
+
+    TrendSeries(TrendChunk.Series series, long entityId) {
+        this.series = series;
+        this.entityId = entityId;
+        this.steps = new int[TrendChunk.CAPACITY];
+        this.columns = new long[series.getColumns()][TrendChunk.CAPACITY];
+    }
+
+    public TrendChunk.Series getSeries() {
+        return series;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getStep(int point) {
+        return steps[point];
+    }
+
+    public double getValue(int column, int point) {
+        return columns[column][point] / 100d;
+    }
+
+    /**
+     * @param step Step to search
+     * @return Index of the first point at or after the step, points being in the order of their steps
+     */
+    public int indexOfStep(int step) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (steps[mid] < step) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return Index of the chunk the point belongs to
+     */
+    static int getChunkIndex(int point) {
+        return point / TrendChunk.CAPACITY;
+    }
+
+    void append(int step, double... values) {
+        ensureCapacity(size + 1);
+        steps[size] = step;
+        for (int column = 0; column < columns.length; column++) {
+            columns[column][size] = Math.round(values[column] * 100);
+        }
+        size++;
+    }
+
+    void truncate(int size) {
+        this.size = Math.min(this.size, size);
+    }
+
+    /**
+     * Encodes the chunk's points as zig-zag variable-length deltas from the previous
+     * point, step first and then each column. Chunks are encoded independently.
+     */
+    TrendChunk encode(Game game, int chunkIndex) {
+        final var from = chunkIndex * TrendChunk.CAPACITY;
+        final var to = Math.min(size, from + TrendChunk.CAPACITY);
+        final var buffer = new byte[(to - from) * (1 + columns.length) * 10];
+        var position = 0;
+        for (int point = from; point < to; point++) {
+            position = writeDelta(buffer, position, steps[point], point == from ? 0 : steps[point - 1]);
+            for (long[] column : columns) {
+                position = writeDelta(buffer, position, column[point], point == from ? 0 : column[point - 1]);
+            }
+        }
+        final var id = new TrendChunkId(series, entityId, chunkIndex);
+        return new TrendChunk(id, game, to - from, Arrays.copyOf(buffer, position));
+    }
+
+    /**
+     * Appends the chunk's points, chunks must be decoded in the order of their index.
+     */
+    void decode(TrendChunk chunk) {
+        ensureCapacity(size + chunk.getSize());
+        final var data = chunk.getData();
+        final var position = new int[1];
+        for (int point = 0; point < chunk.getSize(); point++, size++) {
+            steps[size] = (int) readDelta(data, position, point == 0 ? 0 : steps[size - 1]);
+            for (long[] column : columns) {
+                column[size] = readDelta(data, position, point == 0 ? 0 : column[size - 1]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= steps.length) {
+            return;
+        }
+        final var length = Math.max(capacity, steps.length * 2);
+        steps = Arrays.copyOf(steps, length);
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = Arrays.copyOf(columns[column], length);
+        }
+    }
+
+    private static int writeDelta(byte[] buffer, int position, long value, long previous) {
+        final var delta = value - previous;
+        var zigZag = (delta << 1) ^ (delta >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buffer[position++] = (byte) zigZag;
+        return position;
+    }
+
+    private static long readDelta(byte[] data, int[] position, long previous) {
+        var zigZag = 0L;
+        var shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return previous + ((zigZag >>> 1) ^ -(zigZag & 1));
+    }
+
+}
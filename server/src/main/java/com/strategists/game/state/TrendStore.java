@@ -0,0 +1,176 @@
+package com.strategists.game.state;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Trend;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.entity.TrendChunkId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Game's trends, a series per player and per land. Points are appended once per
+ * step, and the chunks they were appended to are re-written on the next flush
+ * rather than inserting a row per point.
+ */
+public class TrendStore {
+
+    private final Map<Key, TrendSeries> series = new LinkedHashMap<>();
+    private final Set<TrendChunkId> dirtyChunks = new LinkedHashSet<>();
+
+    /**
+     * Chunks drained since the last snapshot, whose rows a restore might need to
+     * delete.
+     */
+    private final Set<TrendChunkId> drainedChunks = new LinkedHashSet<>();
+
+    public synchronized void load(Collection<TrendChunk> chunks) {
+        chunks.stream()
+                .sorted(Comparator.comparing((TrendChunk chunk) -> chunk.getPk().getChunkIndex()))
+                .forEach(chunk -> getOrCreate(chunk.getPk().getSeries(), chunk.getPk().getEntityId()).decode(chunk));
+    }
+
+    public synchronized void add(Collection<Trend> trends) {
+        for (Trend trend : trends) {
+            final TrendSeries trendSeries;
+            if (Objects.nonNull(trend.getPlayerId())) {
+                trendSeries = getOrCreate(TrendChunk.Series.PLAYER, trend.getPlayerId());
+                trendSeries.append(trend.getStep(), trend.getCash(), trend.getNetWorth());
+            } else {
+                trendSeries = getOrCreate(TrendChunk.Series.LAND, trend.getLandId());
+                trendSeries.append(trend.getStep(), trend.getMarketValue());
+            }
+            final var chunkIndex = TrendSeries.getChunkIndex(trendSeries.size() - 1);
+            dirtyChunks.add(new TrendChunkId(trendSeries.getSeries(), trendSeries.getEntityId(), chunkIndex));
+        }
+    }
+
+    /**
+     * @return Trends' points ordered by step
+     */
+    public List<Trend> getTrends() {
+        return getTrends(Integer.MIN_VALUE);
+    }
+
+    /**
+     * @param fromStep Step (inclusive) to get the points from
+     * @return Trends' points ordered by step
+     */
+    public synchronized List<Trend> getTrends(int fromStep) {
+        final var trends = new ArrayList<Trend>();
+        for (TrendSeries trendSeries : series.values()) {
+            for (int point = trendSeries.indexOfStep(fromStep); point < trendSeries.size(); point++) {
+                trends.add(toTrend(trendSeries, point));
+            }
+        }
+        trends.sort(Comparator.comparing(Trend::getStep));
+        return trends;
+    }
+
+    public synchronized <T> List<T> mapSeries(Function<TrendSeries, T> mapper) {
+        return series.values().stream().map(mapper).toList();
+    }
+
+    public synchronized void clear() {
+        series.clear();
+        dirtyChunks.clear();
+    }
+
+    /**
+     * Encodes the chunks changed since the last drain.
+     *
+     * @param game Game the chunks belong to
+     * @return Chunks to be upserted
+     */
+    public synchronized List<TrendChunk> drainChunks(Game game) {
+        final var chunks = new ArrayList<TrendChunk>(dirtyChunks.size());
+        for (TrendChunkId id : dirtyChunks) {
+            final var trendSeries = series.get(new Key(id.getSeries(), id.getEntityId()));
+
+            // Skipping chunks re-queued after the trends were cleared
+            if (Objects.nonNull(trendSeries) && id.getChunkIndex() * TrendChunk.CAPACITY < trendSeries.size()) {
+                chunks.add(trendSeries.encode(game, id.getChunkIndex()));
+                drainedChunks.add(id);
+            }
+        }
+        dirtyChunks.clear();
+        return chunks;
+    }
+
+    public synchronized void requeueChunks(Collection<TrendChunk> chunks) {
+        chunks.forEach(chunk -> dirtyChunks.add(chunk.getPk()));
+    }
+
+    /**
+     * @return Series and their sizes, to restore the trends to
+     */
+    public synchronized Snapshot snapshot() {
+        final var sizes = new LinkedHashMap<Key, Integer>();
+        series.forEach((key, trendSeries) -> sizes.put(key, trendSeries.size()));
+        drainedChunks.clear();
+        return new Snapshot(new LinkedHashMap<>(series), sizes, Set.copyOf(dirtyChunks));
+    }
+
+    /**
+     * Drops the points appended since the snapshot, re-writing the chunks they were
+     * appended to.
+     *
+     * @return Chunks drained since the snapshot that are past the restored points,
+     * whose rows need to be deleted
+     */
+    public synchronized List<TrendChunkId> restore(Snapshot snapshot) {
+        final var staleChunks = new ArrayList<TrendChunkId>();
+        for (TrendChunkId id : drainedChunks) {
+            final var size = snapshot.sizes.get(new Key(id.getSeries(), id.getEntityId()));
+            if (Objects.isNull(size) || id.getChunkIndex() * TrendChunk.CAPACITY >= size) {
+                staleChunks.add(id);
+            }
+        }
+        drainedChunks.clear();
+
+        series.clear();
+        series.putAll(snapshot.series);
+        dirtyChunks.addAll(snapshot.dirtyChunks);
+        snapshot.sizes.forEach((key, size) -> {
+            final var trendSeries = series.get(key);
+            if (trendSeries.size() != size && size > 0) {
+                dirtyChunks.add(new TrendChunkId(key.series(), key.entityId(), TrendSeries.getChunkIndex(size - 1)));
+            }
+            trendSeries.truncate(size);
+        });
+        return staleChunks;
+    }
+
+    private TrendSeries getOrCreate(TrendChunk.Series type, long entityId) {
+        return series.computeIfAbsent(new Key(type, entityId), key -> new TrendSeries(type, entityId));
+    }
+
+    private static Trend toTrend(TrendSeries trendSeries, int point) {
+        final var trend = new Trend();
+        trend.setStep(trendSeries.getStep(point));
+        if (TrendChunk.Series.PLAYER.equals(trendSeries.getSeries())) {
+            trend.setPlayerId(trendSeries.getEntityId());
+            trend.setCash(trendSeries.getValue(0, point));
+            trend.setNetWorth(trendSeries.getValue(1, point));
+        } else {
+            trend.setLandId(trendSeries.getEntityId());
+            trend.setMarketValue(trendSeries.getValue(0, point));
+        }
+        return trend;
+    }
+
+    private record Key(TrendChunk.Series series, long entityId) {
+    }
+
+    record Snapshot(Map<Key, TrendSeries> series, Map<Key, Integer> sizes, Set<TrendChunkId> dirtyChunks) {
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.strategists.game.update;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.strategists.game.configuration.properties.UpdatesConfigurationProperties;
+import com.strategists.game.entity.Game;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites updates' players and lands as patches against the last state sent
+ * for the game, when delta payloads are enabled. A patch is keyed by the
+ * entity's ID and only carries the top-level fields that changed, with
+ * <code>null</code> for removed fields, to be merged into the client's entity.
+ * Trends only carry the entities whose values changed since the previous step,
+ * and the client carries the others forward. Frames holding patches are marked
+ * with <code>"delta":true</code>, while the history keeps the full updates.
+ */
+@Log4j2
+@Component
+public class DeltaEncoder {
+
+    private static final Set<UpdateType> ENCODED_TYPES = Set.of(UpdateType.BANKRUPTCY, UpdateType.CREATE,
+            UpdateType.INVEST, UpdateType.JOIN, UpdateType.MOVE, UpdateType.RENT, UpdateType.RESET, UpdateType.SKIP,
+            UpdateType.START, UpdateType.TREND, UpdateType.TURN, UpdateType.WIN);
+
+    @Autowired
+    private UpdatesConfigurationProperties properties;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    // Game Code -> Last state sent for the game's entities
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public UpdateFrame encode(Game game, UpdateFrame frame) {
+        if (!properties.deltas() || !ENCODED_TYPES.contains(frame.getType())) {
+            return frame;
+        }
+
+        try {
+            final var update = (ObjectNode) mapper.readTree(frame.getJson());
+            final var snapshot = snapshots.computeIfAbsent(game.getCode(), code -> new Snapshot());
+            final boolean patched;
+            synchronized (snapshot) {
+                patched = snapshot.apply(frame.getType(), update);
+            }
+            if (!patched) {
+                return frame;
+            }
+            update.put("delta", true);
+            return UpdateFrame.wrap(frame.getType(), mapper.writeValueAsBytes(update));
+        } catch (IOException | RuntimeException ex) {
+            // Falling back to the full update, which the snapshot is already updated to
+            log.error("Unable to encode delta of {} update of game: {}", frame.getType(), game.getCode(), ex);
+            return frame;
+        }
+    }
+
+    public void forget(Game game) {
+        snapshots.remove(game.getCode());
+    }
+
+    private class Snapshot {
+
+        // Entity's ID -> Entity as last sent
+        private final Map<Long, ObjectNode> players = new HashMap<>();
+        private final Map<Long, ObjectNode> lands = new HashMap<>();
+
+        // Entity's ID -> Entity's trend of the previous step
+        private final Map<Long, ObjectNode> playerTrends = new HashMap<>();
+        private final Map<Long, ObjectNode> landTrends = new HashMap<>();
+
+        /**
+         * @return <code>true</code> if the update's payload was replaced with patches
+         */
+        private boolean apply(UpdateType type, ObjectNode update) {
+            final var payload = update.get("payload");
+            switch (type) {
+                case START, MOVE, SKIP -> update.set("payload", patch(players, payload));
+                case TURN, RENT -> update.set("payload", patchAll(players, (ArrayNode) payload));
+                case INVEST -> {
+                    final var patched = (ObjectNode) payload;
+                    patched.set("land", patch(lands, payload.get("land")));
+                    patched.set("players", patchAll(players, (ArrayNode) payload.get("players")));
+                }
+                case BANKRUPTCY -> {
+                    final var patched = (ObjectNode) payload;
+                    patched.set("lands", patchAll(lands, (ArrayNode) payload.get("lands")));
+                    patched.set("players", patchAll(players, (ArrayNode) payload.get("players")));
+                }
+                case TREND -> update.set("payload", patchTrends((ArrayNode) payload));
+                case JOIN, WIN -> {
+                    // Sent in full, as clients add or ignore the entity
+                    players.put(payload.get("id").asLong(), (ObjectNode) payload);
+                    return false;
+                }
+                default -> {
+                    // Starting over from the game's full state
+                    reset(payload);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void reset(JsonNode game) {
+            players.clear();
+            lands.clear();
+            playerTrends.clear();
+            landTrends.clear();
+            if (Objects.nonNull(game) && game.get("players") instanceof ArrayNode array) {
+                array.forEach(player -> players.put(player.get("id").asLong(), (ObjectNode) player));
+            }
+            if (Objects.nonNull(game) && game.get("lands") instanceof ArrayNode array) {
+                array.forEach(land -> lands.put(land.get("id").asLong(), (ObjectNode) land));
+            }
+        }
+
+        private ArrayNode patchAll(Map<Long, ObjectNode> sent, ArrayNode entities) {
+            final var patches = mapper.createArrayNode();
+            entities.forEach(entity -> patches.add(patch(sent, entity)));
+            return patches;
+        }
+
+        private JsonNode patch(Map<Long, ObjectNode> sent, JsonNode entity) {
+            final var current = (ObjectNode) entity;
+            final var previous = sent.put(current.get("id").asLong(), current);
+            if (Objects.isNull(previous)) {
+                return current;
+            }
+
+            final var patch = mapper.createObjectNode();
+            patch.set("id", current.get("id"));
+            current.properties().forEach(field -> {
+                if (!field.getValue().equals(previous.get(field.getKey()))) {
+                    patch.set(field.getKey(), field.getValue());
+                }
+            });
+            previous.fieldNames().forEachRemaining(name -> {
+                if (!current.has(name)) {
+                    patch.putNull(name);
+                }
+            });
+
+            // Checking that the patch reproduces the entity, or sending it in full
+            if (properties.verifyDeltas() && !merge(withoutNulls(previous), patch).equals(withoutNulls(current))) {
+                log.error("Patch doesn't reproduce entity: {}", current.get("id"));
+                return current;
+            }
+            return patch;
+        }
+
+        private ArrayNode patchTrends(ArrayNode trends) {
+            if (trends.isEmpty()) {
+                return trends;
+            }
+            final var idField = trends.get(0).has("playerId") ? "playerId" : "landId";
+            final var previous = "playerId".equals(idField) ? playerTrends : landTrends;
+
+            // Sending all trends if the entities changed since the previous step
+            final var current = new HashMap<Long, ObjectNode>();
+            trends.forEach(trend -> current.put(trend.get(idField).asLong(), (ObjectNode) trend));
+            if (!current.keySet().equals(previous.keySet())) {
+                previous.clear();
+                previous.putAll(current);
+                return trends;
+            }
+
+            // Keeping the first trend to identify the trends' kind and step, along with the changed ones
+            final var patches = mapper.createArrayNode();
+            for (int i = 0; i < trends.size(); i++) {
+                final var trend = (ObjectNode) trends.get(i);
+                final var last = previous.get(trend.get(idField).asLong());
+                if (i == 0 || !withStep(last, trend.get("step")).equals(trend)) {
+                    patches.add(trend);
+                }
+            }
+
+            // Checking that carrying the other trends forward reproduces the step, or sending it in full
+            if (properties.verifyDeltas() && !expand(previous, patches, idField).equals(current)) {
+                log.error("Trend patches don't reproduce step: {}", trends.get(0).get("step"));
+                previous.clear();
+                previous.putAll(current);
+                return trends;
+            }
+            previous.clear();
+            previous.putAll(current);
+            return patches;
+        }
+
+        private ObjectNode merge(ObjectNode entity, ObjectNode patch) {
+            final var merged = entity.deepCopy();
+            patch.properties().forEach(field -> {
+                if (field.getValue().isNull()) {
+                    merged.remove(field.getKey());
+                } else {
+                    merged.set(field.getKey(), field.getValue());
+                }
+            });
+            return merged;
+        }
+
+        private ObjectNode withoutNulls(ObjectNode entity) {
+            final var copy = entity.deepCopy();
+            entity.properties().forEach(field -> {
+                if (field.getValue().isNull()) {
+                    copy.remove(field.getKey());
+                }
+            });
+            return copy;
+        }
+
+        private Map<Long, ObjectNode> expand(Map<Long, ObjectNode> previous, ArrayNode patches, String idField) {
+            final var step = patches.get(0).get("step");
+            final var expanded = new HashMap<Long, ObjectNode>();
+            previous.forEach((id, trend) -> expanded.put(id, withStep(trend, step)));
+            patches.forEach(trend -> expanded.put(trend.get(idField).asLong(), (ObjectNode) trend));
+            return expanded;
+        }
+
+        private ObjectNode withStep(ObjectNode trend, JsonNode step) {
+            final var copy = trend.deepCopy();
+            copy.set("step", step);
+            return copy;
+        }
+
+    }
+
+}
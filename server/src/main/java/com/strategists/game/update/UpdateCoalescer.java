@@ -0,0 +1,169 @@
+package com.strategists.game.update;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.entity.Game;
+import com.strategists.game.update.bus.UpdateBus;
+import com.strategists.game.update.payload.ResyncUpdatePayload;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects the updates raised while handling one game command and sends them to
+ * the game's subscribers together, as one BATCH frame, followed by the actions
+ * that have to run after them. Within a transaction, updates are held until it
+ * commits and dropped if it rolls back. Otherwise, they're held until the
+ * outermost {@link UpdatePublisher#batch} on the thread returns. Updates are
+ * published on the update bus, reaching subscribers on every node. Games whose
+ * updates were dropped are sent a RESYNC frame, so that clients reload them.
+ */
+@Log4j2
+@Component
+public class UpdateCoalescer {
+
+    private static final ThreadLocal<Batch> BATCH = new ThreadLocal<>();
+
+    @Autowired
+    private UpdateBus updateBus;
+
+    @Autowired
+    private DeltaEncoder deltaEncoder;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    public void begin() {
+        var batch = BATCH.get();
+        if (Objects.isNull(batch)) {
+            batch = new Batch();
+            BATCH.set(batch);
+        }
+        batch.depth++;
+    }
+
+    public void end() {
+        final var batch = BATCH.get();
+        if (--batch.depth > 0) {
+            return;
+        }
+        BATCH.remove();
+        sendBatch(batch);
+    }
+
+    public void send(Game game, UpdateFrame frame) {
+        // Sending right away if not handling a game command
+        final var batch = getBatch();
+        if (Objects.isNull(batch)) {
+            publish(game, List.of(frame));
+            return;
+        }
+        batch.pending.computeIfAbsent(game.getCode(), code -> new Pending(game)).frames.add(frame);
+    }
+
+    /**
+     * Runs the action once the updates collected so far are sent, or right away
+     * if not handling a game command.
+     */
+    public void afterSend(Runnable action) {
+        final var batch = getBatch();
+        if (Objects.isNull(batch)) {
+            action.run();
+            return;
+        }
+        batch.actions.add(action);
+    }
+
+    private Batch getBatch() {
+        // Binding a batch to the transaction, sent only once it commits
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var batch = (Batch) TransactionSynchronizationManager.getResource(this);
+            if (Objects.isNull(batch)) {
+                batch = new Batch();
+                TransactionSynchronizationManager.bindResource(this, batch);
+                TransactionSynchronizationManager.registerSynchronization(new BatchSynchronization(batch));
+            }
+            return batch;
+        }
+        return BATCH.get();
+    }
+
+    private void sendBatch(Batch batch) {
+        batch.pending.values().forEach(pending -> publish(pending.game, pending.frames));
+        batch.actions.forEach(Runnable::run);
+    }
+
+    private void publish(Game game, List<UpdateFrame> frames) {
+        // Encoding deltas only for updates being sent, in the order they're sent
+        final var encoded = frames.stream().map(frame -> deltaEncoder.encode(game, frame)).toList();
+        updateBus.publish(game.getCode(), game.getCurrentStep(), encoded);
+    }
+
+    private void resync(Game game) {
+        // Sending full entities from now on, as clients reload the game
+        deltaEncoder.forget(game);
+        try {
+            final var frame = UpdateFrame.encode(mapper, new ResyncUpdatePayload(game.getCode()));
+            updateBus.publish(game.getCode(), game.getCurrentStep(), List.of(frame));
+        } catch (JsonProcessingException ex) {
+            log.error("Unable to serialize resync payload", ex);
+        }
+    }
+
+    private static class Batch {
+
+        // Nesting depth of batched commands on the thread
+        private int depth;
+
+        // Game Code -> Updates collected for the game, in order
+        private final Map<String, Pending> pending = new LinkedHashMap<>();
+
+        // Actions to run once the updates are sent, in order
+        private final List<Runnable> actions = new ArrayList<>();
+
+    }
+
+    private static class Pending {
+
+        private final Game game;
+        private final List<UpdateFrame> frames = new ArrayList<>();
+
+        private Pending(Game game) {
+            this.game = game;
+        }
+
+    }
+
+    private class BatchSynchronization implements TransactionSynchronization {
+
+        private final Batch batch;
+
+        private BatchSynchronization(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void afterCommit() {
+            sendBatch(batch);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(UpdateCoalescer.this);
+            if (status != STATUS_COMMITTED && !batch.pending.isEmpty()) {
+                log.warn("Dropped updates of rolled back transaction for games: {}", batch.pending.keySet());
+                batch.pending.values().forEach(pending -> resync(pending.game));
+            }
+        }
+
+    }
+
+}
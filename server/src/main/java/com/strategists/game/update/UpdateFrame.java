@@ -0,0 +1,154 @@
+package com.strategists.game.update;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.strategists.game.update.payload.UpdatePayload;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Update payload encoded once, to be written to every subscriber's SSE stream
+ * and to the game's history as is. The frame holds the payload's JSON, and the
+ * complete server-sent event wrapping it, so subscribers share the same bytes.
+ * WebSocket subscribers receive the same JSON transcoded to CBOR, which is only
+ * encoded once the first of them needs it.
+ * <p>
+ * Frames sent on a game's stream are identified by their event ID, which SSE
+ * clients send back as <code>Last-Event-ID</code> when they reconnect.
+ */
+public final class UpdateFrame {
+
+    private static final byte[] EVENT_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private final UpdateType type;
+    private final byte[] json;
+    private final String id;
+    private final Set<DataWithMediaType> event;
+
+    // Encoded on first use, racing writers encode the same bytes
+    private volatile byte[] cbor;
+
+    private UpdateFrame(UpdateType type, byte[] json, String id) {
+        this.type = type;
+        this.json = json;
+        this.id = id;
+
+        // Same bytes SseEmitter writes for events, i.e. id:<id>\ndata:<json>\n\n
+        final var idLine = Objects.isNull(id) ? new byte[0] : ("id:" + id + "\n").getBytes(StandardCharsets.UTF_8);
+        final var out = new ByteArrayOutputStream(idLine.length + EVENT_PREFIX.length + json.length + EVENT_SUFFIX.length);
+        out.writeBytes(idLine);
+        out.writeBytes(EVENT_PREFIX);
+        out.writeBytes(json);
+        out.writeBytes(EVENT_SUFFIX);
+        this.event = Set.of(new DataWithMediaType(out.toByteArray(), MediaType.TEXT_EVENT_STREAM));
+    }
+
+    public static UpdateFrame encode(ObjectMapper mapper, UpdatePayload<?> payload) throws JsonProcessingException {
+        return new UpdateFrame(payload.getType(), mapper.writeValueAsBytes(payload), null);
+    }
+
+    /**
+     * @return Frame of an already encoded payload, e.g. received from another node
+     */
+    public static UpdateFrame wrap(UpdateType type, byte[] json) {
+        return new UpdateFrame(type, json, null);
+    }
+
+    /**
+     * @return Frame with the same payload, identified by the event ID on the game's stream
+     */
+    public UpdateFrame withId(String id) {
+        return new UpdateFrame(type, json, id);
+    }
+
+    /**
+     * Wraps already encoded frames in a BATCH frame, whose payload is the array of
+     * the frames' JSON, without serializing their payloads again.
+     */
+    public static UpdateFrame batch(ObjectMapper mapper, String gameCode, Integer gameStep, long sequence,
+                                    List<UpdateFrame> frames) throws IOException {
+        final var out = new ByteArrayOutputStream(frames.stream().mapToInt(frame -> frame.json.length + 1).sum() + 128);
+        try (final var generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("timestamp", System.currentTimeMillis());
+            generator.writeStringField("type", UpdateType.BATCH.name());
+            generator.writeStringField("gameCode", gameCode);
+            generator.writeObjectField("gameStep", gameStep);
+            generator.writeNumberField("sequence", sequence);
+            generator.writeNullField("activity");
+            generator.writeArrayFieldStart("payload");
+            for (final var frame : frames) {
+                generator.writeRawValue(new String(frame.json, StandardCharsets.UTF_8));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return new UpdateFrame(UpdateType.BATCH, out.toByteArray(), null);
+    }
+
+    public UpdateType getType() {
+        return type;
+    }
+
+    /**
+     * @return Event ID on the game's stream, or <code>null</code> if not sent on one
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Server-sent event, to be passed to <code>SseEmitter.send(Set)</code>
+     */
+    public Set<DataWithMediaType> getEvent() {
+        return event;
+    }
+
+    /**
+     * @return Payload's JSON, shared by every subscriber and hence not to be modified
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * @return Payload's JSON transcoded to CBOR, shared and not to be modified either
+     */
+    public byte[] getCbor() throws IOException {
+        var bytes = cbor;
+        if (bytes == null) {
+            final var out = new ByteArrayOutputStream(json.length);
+            try (final var parser = JSON_FACTORY.createParser(json); final var generator = CBOR_FACTORY.createGenerator(out)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+            cbor = bytes = out.toByteArray();
+        }
+        return bytes;
+    }
+
+    public void writeJson(OutputStream out) throws IOException {
+        out.write(json);
+    }
+
+    public Map<String, Object> toMap(ObjectMapper mapper) throws IOException {
+        return mapper.readValue(json, new TypeReference<>() {
+        });
+    }
+
+}
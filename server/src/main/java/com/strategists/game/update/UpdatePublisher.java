@@ -0,0 +1,73 @@
+package com.strategists.game.update;
+
+import com.strategists.game.update.event.UpdateEvent;
+import com.strategists.game.update.handler.UpdateHandler;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Hands the updates published by services to the handler registered for each
+ * update type, from a table built once all the beans are created. Handlers are
+ * resolved after start-up since they depend on the services publishing to them.
+ */
+@Log4j2
+@Component
+public class UpdatePublisher implements SmartInitializingSingleton {
+
+    @Autowired
+    private ObjectProvider<UpdateHandler<?>> handlerProvider;
+
+    @Autowired
+    private UpdateCoalescer coalescer;
+
+    // Update Type -> Handler
+    private final Map<UpdateType, UpdateHandler<?>> handlers = new EnumMap<>(UpdateType.class);
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerProvider.forEach(handler -> handlers.put(handler.getType(), handler));
+        log.info("Registered update handlers: {}", handlers.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends UpdateEvent> void publish(E event) {
+        // Handlers are registered against the type of the events they accept
+        final var handler = (UpdateHandler<E>) handlers.get(event.getType());
+        if (Objects.isNull(handler)) {
+            log.warn("No handler registered for update type: {}", event.getType());
+            return;
+        }
+
+        handler.handle(event);
+        log.debug("Handled update type: {}", event.getType());
+    }
+
+    /**
+     * Runs a game command, collecting the updates published while it runs to
+     * send them together once it returns. Nested commands join the outermost one.
+     */
+    public <T> T batch(Supplier<T> command) {
+        coalescer.begin();
+        try {
+            return command.get();
+        } finally {
+            coalescer.end();
+        }
+    }
+
+    public void batch(Runnable command) {
+        batch(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+}
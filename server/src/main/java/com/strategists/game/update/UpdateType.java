@@ -3,6 +3,7 @@ package com.strategists.game.update;
 public enum UpdateType {
     ADVICE,
     BANKRUPTCY,
+    BATCH,
     BONUS,
     CHEAT,
     CLEAN_UP,
@@ -16,6 +17,7 @@ public enum UpdateType {
     PREDICTION,
     RENT,
     RESET,
+    RESYNC,
     SKIP,
     START,
     TRADE,
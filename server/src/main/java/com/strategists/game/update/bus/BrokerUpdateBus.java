@@ -0,0 +1,102 @@
+package com.strategists.game.update.bus;
+
+import com.strategists.game.update.UpdateFrame;
+import com.strategists.game.update.UpdateType;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delivers updates to this node's subscribers, and publishes them on the game's
+ * broker topic for other nodes. A node only listens to the topics of games it
+ * holds subscribers of, and skips the messages it published itself. Frames are
+ * passed through as already encoded JSON.
+ */
+@Log4j2
+public class BrokerUpdateBus implements UpdateBus {
+
+    private static final String TOPIC_PREFIX = "strategists.updates.";
+
+    private final UpdateBroker broker;
+    private final LocalUpdateBus local = new LocalUpdateBus();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Game Code -> Task cancelling the node's subscription of the game's topic
+    private final Map<String, Runnable> subscriptions = new ConcurrentHashMap<>();
+
+    public BrokerUpdateBus(UpdateBroker broker) {
+        this.broker = broker;
+    }
+
+    @Override
+    public void publish(String gameCode, Integer gameStep, List<UpdateFrame> frames) {
+        local.publish(gameCode, gameStep, frames);
+        broker.publish(TOPIC_PREFIX + gameCode, encode(gameCode, gameStep, frames));
+    }
+
+    @Override
+    public void subscribe(String gameCode, Listener listener) {
+        local.subscribe(gameCode, listener);
+        subscriptions.computeIfAbsent(gameCode, code -> broker.subscribe(TOPIC_PREFIX + code, this::receive));
+    }
+
+    @Override
+    public void unsubscribe(String gameCode) {
+        local.unsubscribe(gameCode);
+        final var cancel = subscriptions.remove(gameCode);
+        if (Objects.nonNull(cancel)) {
+            cancel.run();
+        }
+    }
+
+    private void receive(byte[] message) {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(message))) {
+            // Skipping own messages, as they're already delivered locally
+            if (nodeId.equals(in.readUTF())) {
+                return;
+            }
+
+            final var gameCode = in.readUTF();
+            final var gameStep = in.readInt();
+            final var count = in.readInt();
+            final var frames = new ArrayList<UpdateFrame>(count);
+            for (int i = 0; i < count; i++) {
+                final var type = UpdateType.valueOf(in.readUTF());
+                frames.add(UpdateFrame.wrap(type, in.readNBytes(in.readInt())));
+            }
+            local.publish(gameCode, gameStep < 0 ? null : gameStep, frames);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Unable to decode update bus message", ex);
+        }
+    }
+
+    private byte[] encode(String gameCode, Integer gameStep, List<UpdateFrame> frames) {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeUTF(nodeId);
+            out.writeUTF(gameCode);
+            out.writeInt(Objects.isNull(gameStep) ? -1 : gameStep);
+            out.writeInt(frames.size());
+            for (UpdateFrame frame : frames) {
+                out.writeUTF(frame.getType().name());
+                out.writeInt(frame.getJson().length);
+                out.write(frame.getJson());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.strategists.game.update.bus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for a message broker, shared by every application context in the
+ * JVM, so that several nodes can be started in one process for testing. Messages
+ * are delivered on the publishing thread.
+ */
+public class InMemoryUpdateBroker implements UpdateBroker {
+
+    // Topic -> Consumers of every node in the JVM
+    private static final Map<String, List<Consumer<byte[]>>> TOPICS = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String topic, byte[] message) {
+        TOPICS.getOrDefault(topic, List.of()).forEach(consumer -> consumer.accept(message));
+    }
+
+    @Override
+    public Runnable subscribe(String topic, Consumer<byte[]> consumer) {
+        TOPICS.compute(topic, (k, consumers) -> {
+            final var current = Objects.isNull(consumers) ? new CopyOnWriteArrayList<Consumer<byte[]>>() : consumers;
+            current.add(consumer);
+            return current;
+        });
+        return () -> TOPICS.computeIfPresent(topic, (k, consumers) -> {
+            consumers.remove(consumer);
+            return consumers.isEmpty() ? null : consumers;
+        });
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.strategists.game.update.bus;
+
+import com.strategists.game.update.UpdateFrame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delivers updates to this node's subscribers on the publishing thread.
+ */
+public class LocalUpdateBus implements UpdateBus {
+
+    // Game Code -> Node's listener of the game's updates
+    private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String gameCode, Integer gameStep, List<UpdateFrame> frames) {
+        final var listener = listeners.get(gameCode);
+        if (Objects.nonNull(listener)) {
+            listener.onUpdates(gameCode, gameStep, frames);
+        }
+    }
+
+    @Override
+    public void subscribe(String gameCode, Listener listener) {
+        listeners.put(gameCode, listener);
+    }
+
+    @Override
+    public void unsubscribe(String gameCode) {
+        listeners.remove(gameCode);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.strategists.game.update.bus;
+
+import java.util.function.Consumer;
+
+/**
+ * Publish-subscribe messaging between nodes, e.g. Redis' pub/sub channels.
+ * Messages of a topic must be delivered to each subscriber in publishing order.
+ */
+public interface UpdateBroker {
+
+    void publish(String topic, byte[] message);
+
+    /**
+     * @return Task cancelling the subscription
+     */
+    Runnable subscribe(String topic, Consumer<byte[]> consumer);
+
+}
@@ -0,0 +1,27 @@
+package com.strategists.game.update.bus;
+
+import com.strategists.game.update.UpdateFrame;
+
+import java.util.List;
+
+/**
+ * Delivers games' updates to every node holding subscribers of the game. Each
+ * node subscribes to a game while it has subscribers of the game, and the
+ * game's owner node publishes the game's updates.
+ */
+public interface UpdateBus {
+
+    void publish(String gameCode, Integer gameStep, List<UpdateFrame> frames);
+
+    void subscribe(String gameCode, Listener listener);
+
+    void unsubscribe(String gameCode);
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onUpdates(String gameCode, Integer gameStep, List<UpdateFrame> frames);
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Advice;
+import com.strategists.game.entity.Game;
+import com.strategists.game.update.UpdateType;
+
+import java.util.List;
+
+public record AdviceUpdateEvent(Game game, List<Advice> advices) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.ADVICE;
+    }
+
+}
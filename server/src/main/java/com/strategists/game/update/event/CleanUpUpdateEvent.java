@@ -0,0 +1,13 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.update.UpdateType;
+
+public record CleanUpUpdateEvent(Game game) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.CLEAN_UP;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.response.GameResponse;
+import com.strategists.game.update.UpdateType;
+
+public record CreateUpdateEvent(GameResponse gameResponse) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.CREATE;
+    }
+
+}
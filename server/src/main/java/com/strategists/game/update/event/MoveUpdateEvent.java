@@ -0,0 +1,14 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.update.UpdateType;
+
+public record MoveUpdateEvent(Player player, int move, Land land) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.MOVE;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.PlayerPrediction;
+import com.strategists.game.update.UpdateType;
+
+import java.util.List;
+
+public record PredictionUpdateEvent(Game game, List<PlayerPrediction> predictions) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.PREDICTION;
+    }
+
+}
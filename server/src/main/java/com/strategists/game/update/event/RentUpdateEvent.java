@@ -0,0 +1,15 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Rent;
+import com.strategists.game.update.UpdateType;
+
+import java.util.List;
+
+public record RentUpdateEvent(List<Rent> rents) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.RENT;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Trend;
+import com.strategists.game.update.UpdateType;
+
+import java.util.List;
+
+public record TrendUpdateEvent(Game game, List<Trend> trends) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.TREND;
+    }
+
+}
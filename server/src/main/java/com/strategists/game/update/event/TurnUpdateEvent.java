@@ -0,0 +1,13 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Player;
+import com.strategists.game.update.UpdateType;
+
+public record TurnUpdateEvent(Player previous, Player current) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.TURN;
+    }
+
+}
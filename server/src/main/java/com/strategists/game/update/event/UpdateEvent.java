@@ -0,0 +1,15 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.update.UpdateType;
+
+/**
+ * Typed update raised by a service once its change is applied, carrying what
+ * the update's handler needs. Published with the
+ * {@link com.strategists.game.update.UpdatePublisher}, which hands it to the
+ * handler registered for its type.
+ */
+public interface UpdateEvent {
+
+    UpdateType getType();
+
+}
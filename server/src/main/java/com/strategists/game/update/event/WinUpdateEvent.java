@@ -0,0 +1,14 @@
+package com.strategists.game.update.event;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Player;
+import com.strategists.game.update.UpdateType;
+
+public record WinUpdateEvent(Game game, Player winner) implements UpdateEvent {
+
+    @Override
+    public UpdateType getType() {
+        return UpdateType.WIN;
+    }
+
+}
@@ -1,21 +1,31 @@
 package com.strategists.game.update.handler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.strategists.game.configuration.properties.CleanUpConfigurationProperties;
+import com.strategists.game.configuration.properties.GameStateConfigurationProperties;
 import com.strategists.game.configuration.properties.SkipPlayerConfigurationProperties;
 import com.strategists.game.entity.Activity;
 import com.strategists.game.entity.Game;
 import com.strategists.game.listener.event.CleanUpEvent;
 import com.strategists.game.listener.event.SkipPlayerEvent;
 import com.strategists.game.repository.ActivityRepository;
+import com.strategists.game.service.GameStateService;
 import com.strategists.game.service.HistoryService;
 import com.strategists.game.service.SchedulerService;
 import com.strategists.game.service.UpdateService;
+import com.strategists.game.update.DeltaEncoder;
+import com.strategists.game.update.UpdateCoalescer;
+import com.strategists.game.update.UpdateFrame;
+import com.strategists.game.update.event.UpdateEvent;
 import com.strategists.game.update.payload.UpdatePayload;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 @Log4j2
-public abstract class AbstractUpdateHandler<T extends UpdatePayload<?>> implements UpdateHandler {
+public abstract class AbstractUpdateHandler<T extends UpdatePayload<?>, E extends UpdateEvent> implements UpdateHandler<E> {
 
     @Autowired
     private SkipPlayerConfigurationProperties skipPlayerConfigurationProperties;
@@ -23,9 +33,15 @@ public abstract class AbstractUpdateHandler<T extends UpdatePayload<?>> implemen
     @Autowired
     private CleanUpConfigurationProperties cleanUpConfigurationProperties;
 
+    @Autowired
+    private GameStateConfigurationProperties gameStateConfigurationProperties;
+
     @Autowired
     private ActivityRepository activityRepository;
 
+    @Autowired
+    private GameStateService gameStateService;
+
     @Autowired
     private UpdateService updateService;
 
@@ -35,8 +51,25 @@ public abstract class AbstractUpdateHandler<T extends UpdatePayload<?>> implemen
     @Autowired
     private HistoryService historyService;
 
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private UpdateCoalescer updateCoalescer;
+
+    @Autowired
+    private DeltaEncoder deltaEncoder;
+
+    /**
+     * Persists the activity without flushing it, to be inserted in a batch with the
+     * transaction's other activities once it commits. The ID is assigned right away.
+     */
     protected Activity saveActivity(Activity activity) {
-        return activityRepository.saveAndFlush(activity);
+        return activityRepository.save(activity);
+    }
+
+    protected List<Activity> saveActivities(List<Activity> activities) {
+        return activityRepository.saveAll(activities);
     }
 
     protected void scheduleSkipPlayerEvent(Game game) {
@@ -64,19 +97,43 @@ public abstract class AbstractUpdateHandler<T extends UpdatePayload<?>> implemen
     }
 
     protected void sendUpdate(Game game, T update) {
-        // Sending update to the UI
-        updateService.sendUpdate(game, update);
+        // Encoding update once for every subscriber and the history
+        final UpdateFrame frame;
+        try {
+            frame = UpdateFrame.encode(mapper, update);
+        } catch (JsonProcessingException ex) {
+            log.error("Unable to serialize {} update of game: {}", update.getType(), game.getCode(), ex);
+            historyService.invalidateHistory(game);
+            return;
+        }
 
-        // Writing history if enabled
-        historyService.appendUpdatePayload(game, update);
+        // Sending update to the UI, along with the rest of the command's updates
+        updateCoalescer.send(game, frame);
+
+        // Writing history once the update is sent, always with the full update
+        updateCoalescer.afterSend(() -> historyService.appendUpdateFrame(game, frame));
+    }
+
+    /**
+     * @return <code>true</code> if the game's state was flushed
+     */
+    protected boolean flushGameState(Game game) {
+        if (GameStateConfigurationProperties.Durability.SYNC_ON_END.equals(gameStateConfigurationProperties.durability())) {
+            gameStateService.flushGameState(game);
+            return true;
+        }
+        return false;
     }
 
     protected void exportHistory(Game game) {
-        historyService.exportHistory(game);
+        updateCoalescer.afterSend(() -> historyService.exportHistory(game));
     }
 
     protected void closeEmitters(Game game) {
-        updateService.closeEmitters(game);
+        updateCoalescer.afterSend(() -> {
+            updateService.closeEmitters(game);
+            deltaEncoder.forget(game);
+        });
     }
 
 }
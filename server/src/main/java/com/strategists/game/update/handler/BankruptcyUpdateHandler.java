@@ -5,6 +5,7 @@ import com.strategists.game.entity.Land;
 import com.strategists.game.entity.Player;
 import com.strategists.game.entity.PlayerLand;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.BankruptcyUpdateEvent;
 import com.strategists.game.update.payload.BankruptcyUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
@@ -13,14 +14,14 @@ import java.util.HashSet;
 
 @Getter
 @Component
-public class BankruptcyUpdateHandler extends AbstractUpdateHandler<BankruptcyUpdatePayload> {
+public class BankruptcyUpdateHandler extends AbstractUpdateHandler<BankruptcyUpdatePayload, BankruptcyUpdateEvent> {
 
     private final UpdateType type = UpdateType.BANKRUPTCY;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Bankrupt player as per the argument
-        final var player = (Player) args[0];
+    public void handle(BankruptcyUpdateEvent event) {
+        // Bankrupt player
+        final var player = event.player();
 
         // Extracting all the impacted players and lands
         final var players = new HashSet<Player>();
@@ -1,21 +1,21 @@
 package com.strategists.game.update.handler;
 
-import com.strategists.game.entity.Game;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.CleanUpUpdateEvent;
 import com.strategists.game.update.payload.CleanUpUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class CleanUpUpdateHandler extends AbstractUpdateHandler<CleanUpUpdatePayload> {
+public class CleanUpUpdateHandler extends AbstractUpdateHandler<CleanUpUpdatePayload, CleanUpUpdateEvent> {
 
     private final UpdateType type = UpdateType.CLEAN_UP;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Game instance from argument
-        final var game = (Game) args[0];
+    public void handle(CleanUpUpdateEvent event) {
+        // Game being cleaned up
+        final var game = event.game();
 
         // Sending update
         sendUpdate(game, new CleanUpUpdatePayload(game));
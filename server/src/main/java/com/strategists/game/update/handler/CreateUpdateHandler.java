@@ -1,22 +1,22 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.response.GameResponse;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.CreateUpdateEvent;
 import com.strategists.game.update.payload.CreateUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class CreateUpdateHandler extends AbstractUpdateHandler<CreateUpdatePayload> {
+public class CreateUpdateHandler extends AbstractUpdateHandler<CreateUpdatePayload, CreateUpdateEvent> {
 
     private final UpdateType type = UpdateType.CREATE;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // GameResponse instance from return value
-        final var gameResponse = (GameResponse) returnValue;
+    public void handle(CreateUpdateEvent event) {
+        // Created game's response
+        final var gameResponse = event.gameResponse();
         final var game = gameResponse.getGame();
         final var hostPlayer = gameResponse.getHostPlayer();
 
@@ -1,26 +1,25 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Land;
-import com.strategists.game.entity.Player;
 import com.strategists.game.entity.PlayerLand;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.InvestUpdateEvent;
 import com.strategists.game.update.payload.InvestUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class InvestUpdateHandler extends AbstractUpdateHandler<InvestUpdatePayload> {
+public class InvestUpdateHandler extends AbstractUpdateHandler<InvestUpdatePayload, InvestUpdateEvent> {
 
     private final UpdateType type = UpdateType.INVEST;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Investing player, invested land, and ownership amount from argument
-        final var player = (Player) args[0];
-        final var land = (Land) args[1];
-        final var ownership = (double) args[2];
+    public void handle(InvestUpdateEvent event) {
+        // Investing player, invested land, and ownership amount
+        final var player = event.player();
+        final var land = event.land();
+        final var ownership = event.ownership();
 
         /*
          * Updating all the players that are linked with this land. Each player's
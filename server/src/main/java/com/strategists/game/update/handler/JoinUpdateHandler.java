@@ -1,22 +1,22 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.JoinUpdateEvent;
 import com.strategists.game.update.payload.JoinUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class JoinUpdateHandler extends AbstractUpdateHandler<JoinUpdatePayload> {
+public class JoinUpdateHandler extends AbstractUpdateHandler<JoinUpdatePayload, JoinUpdateEvent> {
 
     private final UpdateType type = UpdateType.JOIN;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Joined player returned by the method
-        final var player = (Player) returnValue;
+    public void handle(JoinUpdateEvent event) {
+        // Joined player
+        final var player = event.player();
 
         // Persisting the activity and sending the update
         final var activity = Activity.ofJoin(player);
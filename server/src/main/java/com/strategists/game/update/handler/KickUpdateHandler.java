@@ -1,8 +1,8 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.KickUpdateEvent;
 import com.strategists.game.update.payload.KickUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
@@ -11,13 +11,13 @@ import java.util.Objects;
 
 @Getter
 @Component
-public class KickUpdateHandler extends AbstractUpdateHandler<KickUpdatePayload> {
+public class KickUpdateHandler extends AbstractUpdateHandler<KickUpdatePayload, KickUpdateEvent> {
 
     private final UpdateType type = UpdateType.KICK;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        final var player = (Player) returnValue;
+    public void handle(KickUpdateEvent event) {
+        final var player = event.player();
         if (Objects.isNull(player)) {
             return;
         }
@@ -1,25 +1,24 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Land;
-import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.MoveUpdateEvent;
 import com.strategists.game.update.payload.MoveUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class MoveUpdateHandler extends AbstractUpdateHandler<MoveUpdatePayload> {
+public class MoveUpdateHandler extends AbstractUpdateHandler<MoveUpdatePayload, MoveUpdateEvent> {
 
     private final UpdateType type = UpdateType.MOVE;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Moving player and move amount from argument with associated land returned
-        final var player = (Player) args[0];
-        final var move = (int) args[1];
-        final var land = (Land) returnValue;
+    public void handle(MoveUpdateEvent event) {
+        // Moving player and move amount with the land moved to
+        final var player = event.player();
+        final var move = event.move();
+        final var land = event.land();
 
         // Persisting the activity and sending the update
         final var activity = Activity.ofMove(player, move, land);
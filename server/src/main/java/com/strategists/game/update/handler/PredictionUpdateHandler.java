@@ -1,30 +1,26 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Game;
-import com.strategists.game.entity.PlayerPrediction;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.PredictionUpdateEvent;
 import com.strategists.game.update.payload.PredictionUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-import java.util.List;
-
 @Getter
 @Component
-public class PredictionUpdateHandler extends AbstractUpdateHandler<PredictionUpdatePayload> {
+public class PredictionUpdateHandler extends AbstractUpdateHandler<PredictionUpdatePayload, PredictionUpdateEvent> {
 
     private static final double WINNER_DIFFERENCE_THRESHOLD = 0.01;
 
     private final UpdateType type = UpdateType.PREDICTION;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Game from the argument and predictions returned
-        final var game = (Game) args[0];
-
-        @SuppressWarnings("unchecked") final var predictions = (List<PlayerPrediction>) returnValue;
+    public void handle(PredictionUpdateEvent event) {
+        // Game and its inferred predictions
+        final var game = event.game();
+        final var predictions = event.predictions();
         if (CollectionUtils.isEmpty(predictions)) {
             return;
         }
@@ -3,26 +3,27 @@ package com.strategists.game.update.handler;
 import com.strategists.game.entity.Activity;
 import com.strategists.game.entity.Rent;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.RentUpdateEvent;
 import com.strategists.game.update.payload.RentUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class RentUpdateHandler extends AbstractUpdateHandler<RentUpdatePayload> {
+public class RentUpdateHandler extends AbstractUpdateHandler<RentUpdatePayload, RentUpdateEvent> {
 
     private final UpdateType type = UpdateType.RENT;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Source player, target player, and other information from argument
-        final var rent = (Rent) args[0];
-        final var source = rent.getSourcePlayer();
-        final var target = rent.getTargetPlayer();
+    public void handle(RentUpdateEvent event) {
+        // Source player, target players, and other information from the rents
+        final var rents = event.rents();
+        final var source = rents.get(0).getSourcePlayer();
+        final var targets = rents.stream().map(Rent::getTargetPlayer).distinct().toList();
 
-        // Persisting the activity and sending the update
-        final var activity = Activity.ofRent(rent);
-        sendUpdate(source.getGame(), new RentUpdatePayload(saveActivity(activity), source, target));
+        // Persisting the activities and sending a single update for all rents
+        final var activities = rents.stream().map(Activity::ofRent).toList();
+        sendUpdate(source.getGame(), new RentUpdatePayload(saveActivities(activities), source, targets));
     }
 
 }
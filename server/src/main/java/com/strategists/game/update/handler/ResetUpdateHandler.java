@@ -1,8 +1,8 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.response.GameResponse;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.ResetUpdateEvent;
 import com.strategists.game.update.payload.ResetUpdatePayload;
 import jakarta.transaction.Transactional;
 import lombok.Getter;
@@ -10,15 +10,15 @@ import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class ResetUpdateHandler extends AbstractUpdateHandler<ResetUpdatePayload> {
+public class ResetUpdateHandler extends AbstractUpdateHandler<ResetUpdatePayload, ResetUpdateEvent> {
 
     private final UpdateType type = UpdateType.RESET;
 
     @Override
     @Transactional
-    public void handle(Object returnValue, Object[] args) {
-        // GameResponse instance from return value
-        final var gameResponse = (GameResponse) returnValue;
+    public void handle(ResetUpdateEvent event) {
+        // Reset game's response
+        final var gameResponse = event.gameResponse();
         final var game = gameResponse.getGame();
 
         // Sending activity
@@ -1,22 +1,22 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.StartUpdateEvent;
 import com.strategists.game.update.payload.StartUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 @Getter
 @Component
-public class StartUpdateHandler extends AbstractUpdateHandler<StartUpdatePayload> {
+public class StartUpdateHandler extends AbstractUpdateHandler<StartUpdatePayload, StartUpdateEvent> {
 
     private final UpdateType type = UpdateType.START;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Starting player returned from the method
-        final var player = (Player) returnValue;
+    public void handle(StartUpdateEvent event) {
+        // Starting player
+        final var player = event.player();
 
         // Persisting the activity and sending the update
         final var activity = Activity.ofStart(player);
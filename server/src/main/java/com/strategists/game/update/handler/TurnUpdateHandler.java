@@ -1,8 +1,8 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.TurnUpdateEvent;
 import com.strategists.game.update.payload.TurnUpdatePayload;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
@@ -11,18 +11,18 @@ import java.util.Objects;
 
 @Getter
 @Component
-public class TurnUpdateHandler extends AbstractUpdateHandler<TurnUpdatePayload> {
+public class TurnUpdateHandler extends AbstractUpdateHandler<TurnUpdatePayload, TurnUpdateEvent> {
 
     private final UpdateType type = UpdateType.TURN;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
+    public void handle(TurnUpdateEvent event) {
         // Checking if valid current player exists
-        if (Objects.isNull(returnValue)) {
+        if (Objects.isNull(event.current())) {
             return;
         }
-        final var current = (Player) returnValue;
-        final var previous = (Player) args[0];
+        final var current = event.current();
+        final var previous = event.previous();
 
         // Persisting the activity and sending the update
         final var activity = Activity.ofTurn(previous, current);
@@ -1,11 +1,12 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.UpdateEvent;
 
-public interface UpdateHandler {
+public interface UpdateHandler<E extends UpdateEvent> {
 
     UpdateType getType();
 
-    void handle(Object returnValue, Object[] args);
+    void handle(E event);
 
 }
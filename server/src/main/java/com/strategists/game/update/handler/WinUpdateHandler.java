@@ -1,13 +1,13 @@
 package com.strategists.game.update.handler;
 
 import com.strategists.game.entity.Activity;
-import com.strategists.game.entity.Game;
-import com.strategists.game.entity.Player;
 import com.strategists.game.listener.event.AdvicesServiceEvent;
 import com.strategists.game.listener.event.PredictionsServiceEvent;
 import com.strategists.game.service.AdvicesService;
+import com.strategists.game.service.PlayerService;
 import com.strategists.game.service.PredictionsService;
 import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.event.WinUpdateEvent;
 import com.strategists.game.update.payload.WinUpdatePayload;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,13 +18,16 @@ import java.util.Objects;
 
 @Getter
 @Component
-public class WinUpdateHandler extends AbstractUpdateHandler<WinUpdatePayload> {
+public class WinUpdateHandler extends AbstractUpdateHandler<WinUpdatePayload, WinUpdateEvent> {
 
     private final UpdateType type = UpdateType.WIN;
 
     @Autowired
     private ApplicationEventPublisher eventPublisher;
 
+    @Autowired
+    private PlayerService playerService;
+
     @Autowired(required = false)
     private PredictionsService predictionsService;
 
@@ -32,10 +35,10 @@ public class WinUpdateHandler extends AbstractUpdateHandler<WinUpdatePayload> {
     private AdvicesService advicesService;
 
     @Override
-    public void handle(Object returnValue, Object[] args) {
-        // Winner player returned by the method and game is passed in argument
-        final var player = (Player) returnValue;
-        final var game = (Game) args[0];
+    public void handle(WinUpdateEvent event) {
+        // Winner player, if any, and the game
+        final var player = event.winner();
+        final var game = event.game();
 
         // If no winner is declared, avoid sending update
         if (Objects.isNull(player)) {
@@ -60,6 +63,11 @@ public class WinUpdateHandler extends AbstractUpdateHandler<WinUpdatePayload> {
         final var activity = Activity.ofWin(player);
         sendUpdate(game, new WinUpdatePayload(saveActivity(activity), player));
 
+        // Persisting game's final state, if durability requires it, and checking the players' ledgers against its rows
+        if (flushGameState(game)) {
+            playerService.verifyLedgers(game);
+        }
+
         // Exporting history files - This should happen in sync before invoking the train model event
         exportHistory(game);
 
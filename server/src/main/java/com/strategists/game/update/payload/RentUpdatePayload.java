@@ -5,8 +5,13 @@ import com.strategists.game.entity.Player;
 import com.strategists.game.update.UpdateType;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Rents paid by a player for a landing. Each rent has its own activity, so this
+ * update carries the activities instead of a single activity.
+ */
 @Getter
 public class RentUpdatePayload implements UpdatePayload<List<Player>> {
 
@@ -14,15 +19,18 @@ public class RentUpdatePayload implements UpdatePayload<List<Player>> {
     private final UpdateType type = UpdateType.RENT;
     private final String gameCode;
     private final Integer gameStep;
-    private final Activity activity;
+    private final Activity activity = null;
+    private final List<Activity> activities;
     private final List<Player> payload;
 
-    public RentUpdatePayload(Activity activity, Player sourcePlayer, Player targetPlayer) {
-        final var game = activity.getGame();
+    public RentUpdatePayload(List<Activity> activities, Player sourcePlayer, List<Player> targetPlayers) {
+        final var game = sourcePlayer.getGame();
         this.gameCode = game.getCode();
         this.gameStep = game.getCurrentStep();
-        this.activity = activity;
-        this.payload = List.of(sourcePlayer, targetPlayer);
+        this.activities = activities;
+        this.payload = new ArrayList<>(targetPlayers.size() + 1);
+        this.payload.add(sourcePlayer);
+        this.payload.addAll(targetPlayers);
     }
 
 }
@@ -0,0 +1,21 @@
+package com.strategists.game.update.payload;
+
+import com.strategists.game.entity.Activity;
+import com.strategists.game.update.UpdateType;
+import lombok.Getter;
+
+@Getter
+public class ResyncUpdatePayload implements UpdatePayload<Object> {
+
+    private final Long timestamp = System.currentTimeMillis();
+    private final UpdateType type = UpdateType.RESYNC;
+    private final String gameCode;
+    private final Integer gameStep = null;
+    private final Activity activity = null;
+    private final Object payload = null;
+
+    public ResyncUpdatePayload(String gameCode) {
+        this.gameCode = gameCode;
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.strategists.game.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bitmap over a large index space, where only the pages holding at least one set
+ * bit are allocated. Pages also keep their set bits' count, so that searching a
+ * clear bit skips full pages without scanning them. Not thread-safe.
+ */
+public class SparseBitSet {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_BITS = 1 << PAGE_SHIFT;
+    private static final int PAGE_WORDS = PAGE_BITS >>> 6;
+
+    private final long size;
+    private final Map<Long, Page> pages = new HashMap<>();
+    private long cardinality;
+
+    /**
+     * @param size Number of bits, i.e. indices are in range [0, size)
+     */
+    public SparseBitSet(long size) {
+        this.size = size;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return Number of set bits
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean get(long index) {
+        final var page = pages.get(index >>> PAGE_SHIFT);
+        return page != null && page.get((int) (index & (PAGE_BITS - 1)));
+    }
+
+    /**
+     * @return <code>true</code> if the bit was clear before
+     */
+    public boolean set(long index) {
+        final var page = pages.computeIfAbsent(index >>> PAGE_SHIFT, k -> new Page());
+        final var changed = page.set((int) (index & (PAGE_BITS - 1)));
+        cardinality += changed ? 1 : 0;
+        return changed;
+    }
+
+    /**
+     * @return <code>true</code> if the bit was set before
+     */
+    public boolean clear(long index) {
+        final var key = index >>> PAGE_SHIFT;
+        final var page = pages.get(key);
+        if (page == null || !page.clear((int) (index & (PAGE_BITS - 1)))) {
+            return false;
+        }
+        cardinality--;
+        if (page.count == 0) {
+            pages.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first clear bit at or after the index, wrapping around to the
+     * start of the bitmap.
+     *
+     * @param from Index to start searching from
+     * @return Index of a clear bit, or -1 if all bits are set
+     */
+    public long nextClearBit(long from) {
+        if (cardinality >= size) {
+            return -1;
+        }
+
+        // Searching from the index till the end, and then from the start till the index
+        var index = nextClearBit(from, size);
+        if (index < 0) {
+            index = nextClearBit(0, from);
+        }
+        return index;
+    }
+
+    private long nextClearBit(long from, long to) {
+        var index = from;
+        while (index < to) {
+            final var page = pages.get(index >>> PAGE_SHIFT);
+            final var pageStart = index & -PAGE_BITS;
+            if (page == null) {
+                return index;
+            }
+            if (page.count < PAGE_BITS) {
+                final var offset = page.nextClearBit((int) (index - pageStart));
+                if (offset >= 0) {
+                    return pageStart + offset < to ? pageStart + offset : -1;
+                }
+            }
+            index = pageStart + PAGE_BITS;
+        }
+        return -1;
+    }
+
+    private static class Page {
+
+        private final long[] words = new long[PAGE_WORDS];
+        private int count;
+
+        private boolean get(int bit) {
+            return (words[bit >>> 6] & (1L << bit)) != 0;
+        }
+
+        private boolean set(int bit) {
+            if (get(bit)) {
+                return false;
+            }
+            words[bit >>> 6] |= 1L << bit;
+            count++;
+            return true;
+        }
+
+        private boolean clear(int bit) {
+            if (!get(bit)) {
+                return false;
+            }
+            words[bit >>> 6] &= ~(1L << bit);
+            count--;
+            return true;
+        }
+
+        private int nextClearBit(int from) {
+            var w = from >>> 6;
+            var word = ~words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == PAGE_WORDS) {
+                    return -1;
+                }
+                word = ~words[w];
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+    }
+
+}
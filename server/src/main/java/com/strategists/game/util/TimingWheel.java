@@ -0,0 +1,63 @@
+package com.strategists.game.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel, where each slot holds the entries due within one tick.
+ * Scheduling an entry takes constant time, and advancing the wheel only visits
+ * the slots of elapsed ticks, regardless of the number of entries. Deadlines
+ * beyond the wheel's span expire at the end of the span. Entries may be
+ * scheduled from any thread, while the wheel is advanced by one thread at a time.
+ */
+public class TimingWheel<T> {
+
+    private final Queue<T>[] slots;
+    private final long tickMillis;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int slotsCount, long tickMillis) {
+        this.slots = new Queue[slotsCount];
+        for (int i = 0; i < slotsCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Schedules the entry to expire at the first tick after the deadline, or the
+     * next tick if the deadline already passed.
+     */
+    public void schedule(T entry, long deadline) {
+        final var current = currentTick;
+        final var tick = Math.clamp(Math.ceilDiv(deadline, tickMillis), current + 1, current + slots.length - 1);
+        slots[(int) (tick % slots.length)].add(entry);
+    }
+
+    /**
+     * Expires the entries of every tick elapsed until now, in order of ticks.
+     */
+    public void advance(long now, Consumer<T> expired) {
+        final var target = now / tickMillis;
+        while (currentTick < target) {
+            final var tick = currentTick + 1;
+            currentTick = tick;
+
+            // Entries re-scheduled by the consumer land in later slots
+            final var slot = slots[(int) (tick % slots.length)];
+            T entry;
+            while (Objects.nonNull(entry = slot.poll())) {
+                expired.accept(entry);
+            }
+        }
+    }
+
+}
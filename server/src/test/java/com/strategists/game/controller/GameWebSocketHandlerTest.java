@@ -0,0 +1,199 @@
+package com.strategists.game.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Player;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.service.GameService;
+import com.strategists.game.service.LandService;
+import com.strategists.game.service.PlayerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.net.http.WebSocketHandshakeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Running in its own context with a server, hence on its own database and history directory
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:web-socket-test",
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.websocket.enabled=true",
+        "strategists.history.data-directory=target/web-socket-history"
+})
+class GameWebSocketHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private LandService landService;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Connection> connections = new ArrayList<>();
+
+    private Game game;
+    private Player host;
+    private Player player;
+
+    @BeforeEach
+    void setup() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        host = playerService.getPlayersByGame(game).getFirst();
+        player = playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connections.forEach(Connection::close);
+        client.shutdownNow();
+    }
+
+    @Test
+    void executesCommands() throws Exception {
+        final var connection = connect(host, "http://localhost:" + port);
+
+        assertTrue(connection.command(1, "{\"id\":1,\"type\":\"START\"}").get("success").asBoolean());
+        assertTrue(gameService.getGameByCode(game.getCode()).isActive());
+
+        final var step = gameService.getGameByCode(game.getCode()).getCurrentStep();
+        assertTrue(connection.command(2, "{\"id\":2,\"type\":\"TURN\"}").get("success").asBoolean());
+        assertEquals(step + 1, gameService.getGameByCode(game.getCode()).getCurrentStep());
+
+        // Investing as a player other than the current one, or in a land the current player isn't at
+        final var current = playerService.getCurrentPlayer(game);
+        final var land = landService.getLandByIndex(game, current.getIndex());
+        final var other = connect(current.getId().equals(host.getId()) ? player : host, null);
+        final var invest = other.command(3, "{\"id\":3,\"type\":\"INVEST\",\"landId\":" + land.getId() + ",\"ownership\":10}");
+        assertFalse(invest.get("success").asBoolean());
+        assertEquals("Requesting player is not the current player!", invest.get("message").asText());
+
+        final var own = current.getId().equals(host.getId()) ? connection : connect(player, null);
+        final var misplaced = own.command(4, "{\"id\":4,\"type\":\"INVEST\",\"landId\":-1,\"ownership\":10}");
+        assertFalse(misplaced.get("success").asBoolean());
+        assertEquals("Current player is not at the requested land!", misplaced.get("message").asText());
+    }
+
+    @Test
+    void answersCommandsSentWhileUpdatesAreSent() throws Exception {
+        final var connection = connect(host, null);
+        assertTrue(connection.command(1, "{\"id\":1,\"type\":\"START\"}").get("success").asBoolean());
+
+        // Sending turns without waiting, as each turn's updates are sent on the same session as the responses
+        for (long id = 2; id <= 11; id++) {
+            connection.send("{\"id\":" + id + ",\"type\":\"TURN\"}");
+        }
+        final var answered = new ArrayList<Long>();
+        while (answered.size() < 10) {
+            final var response = connection.nextResponse();
+            assertTrue(response.get("success").asBoolean(), response::toString);
+            answered.add(response.get("commandId").asLong());
+        }
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L), answered.stream().sorted().toList());
+    }
+
+    @Test
+    void rejectsHandshakesFromOtherOrigins() {
+        final var ex = assertThrows(CompletionException.class, () -> connect(host, "http://example.com"));
+        final var handshake = assertInstanceOf(WebSocketHandshakeException.class, ex.getCause());
+        assertEquals(403, handshake.getResponse().statusCode());
+    }
+
+    private Connection connect(Player player, String origin) {
+        final var connection = new Connection();
+        final var builder = client.newWebSocketBuilder();
+        if (Objects.nonNull(origin)) {
+            builder.header("Origin", origin);
+        }
+        final var uri = URI.create("ws://localhost:" + port + "/api/games/" + game.getCode() + "/ws?format=json&playerId=" + player.getId());
+        connection.socket = builder.buildAsync(uri, connection).join();
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Player's WebSocket session, whose messages are collected in the background.
+     */
+    private class Connection implements WebSocket.Listener {
+
+        private final BlockingQueue<JsonNode> responses = new LinkedBlockingQueue<>();
+        private final StringBuilder text = new StringBuilder();
+        private WebSocket socket;
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                try {
+                    // Keeping command responses, as updates carry a type instead
+                    final var message = mapper.readTree(text.toString());
+                    if (message.has("success")) {
+                        responses.add(message);
+                    }
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                text.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private void send(String command) {
+            socket.sendText(command, true).join();
+        }
+
+        private JsonNode nextResponse() throws InterruptedException {
+            final var response = responses.poll(10, TimeUnit.SECONDS);
+            assertNotNull(response, "Timed out waiting for response");
+            return response;
+        }
+
+        private JsonNode command(long id, String command) throws InterruptedException {
+            send(command);
+            final var response = nextResponse();
+            assertEquals(id, response.get("commandId").asLong());
+            return response;
+        }
+
+        private void close() {
+            socket.abort();
+        }
+
+    }
+
+}
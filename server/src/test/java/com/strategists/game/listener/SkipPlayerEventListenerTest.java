@@ -0,0 +1,121 @@
+package com.strategists.game.listener;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.listener.event.SkipPlayerEvent;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.service.GameExecutorService;
+import com.strategists.game.service.GameService;
+import com.strategists.game.service.GameStateService;
+import com.strategists.game.service.PlayerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.history.data-directory=target/history"
+})
+class SkipPlayerEventListenerTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private GameExecutorService gameExecutorService;
+
+    @Autowired
+    private GameStateService gameStateService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Game game;
+
+    @BeforeEach
+    void setup() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+        gameService.startGame(game);
+        game = gameService.getGameByCode(game.getCode());
+
+        // Allowing skips, as skipping players is disabled for the game
+        transactionTemplate.executeWithoutResult(status -> {
+            final var player = playerService.getCurrentPlayer(game);
+            player.setRemainingSkipsCount(3);
+            gameStateService.getGameState(game).markDirty(player);
+        });
+    }
+
+    @Test
+    void skipsPlayerAndPlaysTurn() {
+        final var player = playerService.getCurrentPlayer(game);
+        final var remainingSkipsCount = player.getRemainingSkipsCount();
+        final var step = game.getCurrentStep();
+
+        skip(listener(gameService));
+
+        assertEquals(remainingSkipsCount - 1, playerService.getPlayerById(player.getId()).getRemainingSkipsCount());
+        assertEquals(step + 1, gameService.getGameByCode(game.getCode()).getCurrentStep());
+    }
+
+    @Test
+    void keepsPlayerUnskippedIfTurnFails() {
+        final var player = playerService.getCurrentPlayer(game);
+        final var remainingSkipsCount = player.getRemainingSkipsCount();
+        final var step = game.getCurrentStep();
+
+        // Failing to play the next turn, once the player is skipped
+        final var failingGameService = (GameService) Proxy.newProxyInstance(GameService.class.getClassLoader(),
+                new Class<?>[]{GameService.class}, (proxy, method, args) -> {
+                    if ("playTurn".equals(method.getName())) {
+                        throw new IllegalStateException("Turn failed!");
+                    }
+                    try {
+                        return method.invoke(gameService, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+        skip(listener(failingGameService));
+
+        assertEquals(remainingSkipsCount, playerService.getPlayerById(player.getId()).getRemainingSkipsCount());
+        assertEquals(step, gameService.getGameByCode(game.getCode()).getCurrentStep());
+    }
+
+    private SkipPlayerEventListener listener(GameService gameService) {
+        final var listener = new SkipPlayerEventListener();
+        ReflectionTestUtils.setField(listener, "gameService", gameService);
+        ReflectionTestUtils.setField(listener, "playerService", playerService);
+        ReflectionTestUtils.setField(listener, "gameExecutorService", gameExecutorService);
+        ReflectionTestUtils.setField(listener, "transactionTemplate", transactionTemplate);
+        return listener;
+    }
+
+    private void skip(SkipPlayerEventListener listener) {
+        // Scheduling from a copy of the game, as it has no skip timeout
+        final var scheduled = new Game();
+        scheduled.setCode(game.getCode());
+        scheduled.setCurrentStep(game.getCurrentStep());
+        scheduled.setSkipPlayerTimeout(0);
+        listener.onEvent(SkipPlayerEvent.from(scheduled));
+
+        // Waiting for the skip submitted to the game's mailbox
+        gameExecutorService.execute(game.getCode(), () -> {
+        });
+    }
+
+}
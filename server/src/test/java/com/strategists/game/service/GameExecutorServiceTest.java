@@ -0,0 +1,150 @@
+package com.strategists.game.service;
+
+import com.strategists.game.configuration.properties.GameExecutorConfigurationProperties;
+import com.strategists.game.service.impl.GameExecutorServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameExecutorServiceTest {
+
+    private static final String CODE = "TEST";
+
+    private GameExecutorService gameExecutorService;
+
+    @BeforeEach
+    void setup() {
+        gameExecutorService = new GameExecutorServiceImpl();
+        ReflectionTestUtils.setField(gameExecutorService, "properties", new GameExecutorConfigurationProperties(4));
+    }
+
+    @Test
+    void executesCommandsInOrderOneAtATime() throws InterruptedException {
+        final var executed = new CopyOnWriteArrayList<Integer>();
+        final var running = new AtomicInteger();
+        final var overlapped = new AtomicInteger();
+        final var done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            final var command = i;
+            submitWhenAccepted(() -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.incrementAndGet();
+                }
+                executed.add(command);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), executed);
+        assertEquals(0, overlapped.get());
+    }
+
+    @Test
+    void rejectsCommandsBeyondCapacity() throws InterruptedException {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        gameExecutorService.submit(CODE, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Filling the mailbox while its first command is running
+        for (int i = 0; i < 4; i++) {
+            gameExecutorService.submit(CODE, () -> {
+            });
+        }
+        assertThrows(RejectedExecutionException.class, () -> gameExecutorService.submit(CODE, () -> {
+        }));
+        assertEquals(1, gameExecutorService.getMetrics().getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    void removesMailboxOnceDrained() throws InterruptedException {
+        final var executed = new CopyOnWriteArrayList<String>();
+        final var running = new AtomicInteger();
+        final var overlapped = new AtomicInteger();
+        final var removed = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+
+        // Removing the mailbox from a command still running on it
+        gameExecutorService.submit(CODE, () -> {
+            running.incrementAndGet();
+            gameExecutorService.removeMailbox(CODE);
+            removed.countDown();
+            await(release);
+            executed.add("remove");
+            running.decrementAndGet();
+            done.countDown();
+        });
+        assertTrue(removed.await(10, TimeUnit.SECONDS));
+
+        // Submitting a command right after, which must wait for the running one
+        gameExecutorService.submit(CODE, () -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.incrementAndGet();
+            }
+            executed.add("next");
+            running.decrementAndGet();
+            done.countDown();
+        });
+        Thread.sleep(50);
+        release.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("remove", "next"), executed);
+        assertEquals(0, overlapped.get());
+        waitForMailboxes(0);
+
+        // Getting a new mailbox for later commands
+        final var results = new ArrayList<Integer>();
+        gameExecutorService.execute(CODE, () -> results.add(1));
+        assertEquals(List.of(1), results);
+        waitForMailboxes(1);
+    }
+
+    private void submitWhenAccepted(Runnable command) throws InterruptedException {
+        while (true) {
+            try {
+                gameExecutorService.submit(CODE, command);
+                return;
+            } catch (RejectedExecutionException ex) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private void waitForMailboxes(int count) throws InterruptedException {
+        for (int i = 0; i < 1000 && gameExecutorService.getMetrics().getMailboxesCount() != count; i++) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, gameExecutorService.getMetrics().getMailboxesCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
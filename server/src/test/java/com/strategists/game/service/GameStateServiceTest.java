@@ -0,0 +1,165 @@
+package com.strategists.game.service;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.entity.TrendChunk;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.state.GameState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+@SpringBootTest(properties = {
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.history.data-directory=target/history"
+})
+class GameStateServiceTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private GameStateService gameStateService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void flushesAndReloadsGame() {
+        final var game = createStartedGame();
+        for (int i = 0; i < 10; i++) {
+            playTurnAndInvest(game);
+        }
+
+        final var state = gameStateService.getGameState(game);
+        final var expected = Values.of(state);
+
+        // Writing the pending changes, then loading the game from its rows
+        gameStateService.flushGameState(game);
+        gameStateService.evictGameState(game);
+        final var reloaded = gameStateService.getGameState(game.getCode());
+
+        assertNotSame(state, reloaded);
+        assertEquals(expected, Values.of(reloaded));
+    }
+
+    @Test
+    void restoresStateOnRollback() {
+        final var game = createStartedGame();
+        playTurnAndInvest(game);
+
+        final var state = gameStateService.getGameState(game);
+        final var expected = Values.of(state);
+
+        // Changing the state in a transaction that rolls back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            playTurnAndInvest(game);
+            assertNotEquals(expected, Values.of(state));
+            status.setRollbackOnly();
+        });
+        assertEquals(expected, Values.of(state));
+
+        // Flushing none of the rolled back changes
+        gameStateService.flushGameState(game);
+        gameStateService.evictGameState(game);
+        assertEquals(expected, Values.of(gameStateService.getGameState(game.getCode())));
+    }
+
+    @Test
+    void restoresStateOnRollbackAfterFlush() {
+        final var game = createStartedGame();
+        final var state = gameStateService.getGameState(game);
+        while (state.getPlayers().stream().allMatch(player -> player.getPlayerLands().isEmpty())) {
+            playTurnAndInvest(game);
+        }
+        gameStateService.flushGameState(game);
+
+        // Selling a land without flushing, leaving its row's removal pending
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            final var owner = state.getPlayers().stream()
+                    .filter(player -> !player.getPlayerLands().isEmpty())
+                    .findFirst()
+                    .orElseThrow();
+            final var playerLand = owner.getPlayerLands().getFirst();
+            owner.getPlayerLands().remove(playerLand);
+            playerLand.getLand().getPlayerLands().remove(playerLand);
+            state.remove(playerLand);
+            state.markDirty(owner);
+        });
+        final var expected = Values.of(state);
+
+        // Flushing in a transaction that rolls back, once its trends span another chunk
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < TrendChunk.CAPACITY; i++) {
+                playTurnAndInvest(game);
+            }
+            gameStateService.flushGameState(game);
+            status.setRollbackOnly();
+        });
+        assertEquals(expected, Values.of(state));
+
+        // Deleting the rows written by the rolled back flush, along with the removed one
+        gameStateService.flushGameState(game);
+        gameStateService.evictGameState(game);
+        assertEquals(expected, Values.of(gameStateService.getGameState(game.getCode())));
+    }
+
+    private Game createStartedGame() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var gameResponse = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com"));
+        final var game = gameResponse.getGame();
+        playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+        gameService.startGame(game);
+        return gameService.getGameByCode(game.getCode());
+    }
+
+    private void playTurnAndInvest(Game game) {
+        gameService.playTurn(game);
+
+        // Investing a little in the land the current player is at, whenever allowed
+        final var player = playerService.getCurrentPlayer(game);
+        final var land = gameStateService.getGameState(game).getLandIndex().getLand(player.getIndex());
+        if (land.getTotalOwnership() <= 90 && land.getMarketValue() > 0 && player.getCash() > land.getMarketValue()) {
+            playerService.invest(player, land, 10);
+        }
+    }
+
+    private record Values(int currentStep, List<String> players, List<String> lands, int trendsCount) {
+
+        private static Values of(GameState state) {
+            final var players = state.getPlayers().stream()
+                    .map(Values::describe)
+                    .toList();
+            final var lands = state.getLands().stream()
+                    .map(Values::describe)
+                    .toList();
+            return new Values(state.getGame().getCurrentStep(), players, lands, state.getTrends().size());
+        }
+
+        private static String describe(Player player) {
+            return String.format("%d:%s:%d:%.2f:%.2f:%d:%d", player.getId(), player.getState(), player.getIndex(),
+                    player.getCash(), player.getInvestedAmount(), player.getPlayerLands().size(),
+                    player.getReceivedRents().size() + player.getPaidRents().size());
+        }
+
+        private static String describe(Land land) {
+            return String.format("%d:%.2f:%d", land.getId(), land.getTotalOwnership(), land.getLandEvents().size());
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.strategists.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.configuration.properties.HistoryConfigurationProperties;
+import com.strategists.game.entity.Game;
+import com.strategists.game.service.impl.HistoryServiceImpl;
+import com.strategists.game.update.UpdateFrame;
+import com.strategists.game.update.UpdateType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryServiceTest {
+
+    private static final int GAMES_COUNT = 100;
+
+    @TempDir
+    private File dataDirectory;
+
+    private HistoryService historyService;
+
+    @BeforeEach
+    void setup() {
+        final var properties = new HistoryConfigurationProperties(dataDirectory, new HistoryConfigurationProperties.GoogleDrive(false, null));
+        final var service = new HistoryServiceImpl();
+        ReflectionTestUtils.setField(service, "properties", properties);
+        ReflectionTestUtils.setField(service, "mapper", new ObjectMapper());
+        service.setup();
+        historyService = service;
+    }
+
+    @Test
+    void keepsFramesOfGamesWhoseJournalsWereReleased() {
+        final var games = new ArrayList<Game>();
+        for (int i = 0; i < GAMES_COUNT; i++) {
+            final var game = new Game();
+            game.setCode("G" + i);
+            games.add(game);
+            historyService.appendUpdateFrame(game, frame(UpdateType.CREATE, 0));
+        }
+
+        // Appending to every game in turns, so that their journals keep getting released and reopened
+        for (int step = 1; step <= 3; step++) {
+            for (final var game : games) {
+                historyService.appendUpdateFrame(game, frame(UpdateType.TURN, step));
+            }
+        }
+
+        for (final var game : games) {
+            final var steps = historyService.getHistory(game)
+                    .stream()
+                    .map(entry -> entry.get("step"))
+                    .toList();
+            assertEquals(List.of(0, 1, 2, 3), steps);
+        }
+        final var openJournals = (Map<?, ?>) ReflectionTestUtils.getField(historyService, "openJournals");
+        assertTrue(openJournals.size() < GAMES_COUNT);
+    }
+
+    @Test
+    void startsJournalOverOnCreate() {
+        final var game = new Game();
+        game.setCode("G");
+        historyService.appendUpdateFrame(game, frame(UpdateType.CREATE, 0));
+        historyService.appendUpdateFrame(game, frame(UpdateType.TURN, 1));
+        historyService.appendUpdateFrame(game, frame(UpdateType.CREATE, 2));
+
+        final var steps = historyService.getHistory(game)
+                .stream()
+                .map(entry -> entry.get("step"))
+                .toList();
+        assertEquals(List.of(2), steps);
+    }
+
+    @Test
+    void ignoresFramesSentOnceHistoryIsExported() {
+        final var game = new Game();
+        game.setCode("G");
+        game.setGameMapId("map");
+        historyService.appendUpdateFrame(game, frame(UpdateType.CREATE, 0));
+        historyService.appendUpdateFrame(game, frame(UpdateType.WIN, 1));
+        historyService.exportHistory(game);
+
+        // Sending frames after the win, which would start a new journal
+        historyService.appendUpdateFrame(game, frame(UpdateType.ADVICE, 1));
+        historyService.appendUpdateFrame(game, frame(UpdateType.PREDICTION, 1));
+        assertEquals(List.of(), historyService.getHistory(game));
+        assertFalse(new File(dataDirectory, "journal/G.journal").exists());
+
+        // Keeping frames once the game starts over
+        historyService.appendUpdateFrame(game, frame(UpdateType.RESET, 2));
+        historyService.appendUpdateFrame(game, frame(UpdateType.TURN, 3));
+        final var steps = historyService.getHistory(game)
+                .stream()
+                .map(entry -> entry.get("step"))
+                .toList();
+        assertEquals(List.of(2, 3), steps);
+    }
+
+    private static UpdateFrame frame(UpdateType type, int step) {
+        final var json = String.format("{\"type\":\"%s\",\"step\":%d}", type, step);
+        return UpdateFrame.wrap(type, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.strategists.game.service;
+
+import com.strategists.game.repository.PlayerRepository;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.service.impl.PlayerServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.history.data-directory=target/history"
+})
+class PlayerServiceTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private LandService landService;
+
+    @Autowired
+    private GameStateService gameStateService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void keepsLedgersConsistentWithRows() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        var game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+        gameService.startGame(game);
+        game = gameService.getGameByCode(game.getCode());
+
+        // Investing wherever allowed, so that players pay rents to each other
+        for (int i = 0; i < 30 && game.isActive(); i++) {
+            gameService.playTurn(game);
+            final var player = playerService.getCurrentPlayer(game);
+            final var land = landService.getLandByIndex(game, player.getIndex());
+            if (land.getTotalOwnership() <= 80 && land.getMarketValue() > 0 && player.getCash() > 2 * land.getMarketValue()) {
+                playerService.invest(player, land, 20);
+            }
+        }
+
+        // Writing the pending changes, then comparing the running totals with the rows
+        gameStateService.flushGameState(game);
+        assertTrue(playerService.verifyLedgers(game));
+    }
+
+    @Test
+    void resolvesPlayerWithoutLoadingStateOfGameOwnedByAnotherNode() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        final var player = playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+        final var other = gameService.createGame(new GoogleOAuthCredential("Other" + suffix, "other-" + suffix + "@test.com")).getGame();
+
+        // Dropping the state, as if the game was played on its owner node
+        gameStateService.flushGameState(game);
+        gameStateService.evictGameState(game);
+
+        final var service = new PlayerServiceImpl();
+        ReflectionTestUtils.setField(service, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(service, "gameStateService", gameStateService);
+        ReflectionTestUtils.setField(service, "nodeService", new NodeService() {
+            @Override
+            public boolean isOwner(String gameCode) {
+                return false;
+            }
+
+            @Override
+            public String getOwnerUrl(String gameCode) {
+                return "http://owner";
+            }
+        });
+
+        assertEquals(player.getId(), service.getPlayerByGameCodeAndId(game.getCode(), player.getId()).getId());
+        assertThrows(IllegalArgumentException.class, () -> service.getPlayerByGameCodeAndId(other.getCode(), player.getId()));
+        final Object target = AopTestUtils.getUltimateTargetObject(gameStateService);
+        final var states = (Map<?, ?>) ReflectionTestUtils.getField(target, "states");
+        assertFalse(states.containsKey(game.getCode()));
+    }
+
+}
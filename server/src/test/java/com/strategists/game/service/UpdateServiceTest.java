@@ -0,0 +1,227 @@
+package com.strategists.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.configuration.properties.UpdatesConfigurationProperties;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Player;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.update.UpdateFrame;
+import com.strategists.game.update.UpdateType;
+import com.strategists.game.update.bus.UpdateBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Running in its own context with a server, hence on its own database and history directory
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:update-service-test",
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.history.data-directory=target/update-service-history"
+})
+class UpdateServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private UpdateService updateService;
+
+    @Autowired
+    private UpdateBus updateBus;
+
+    @Autowired
+    private UpdatesConfigurationProperties properties;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Connection> connections = new ArrayList<>();
+
+    private Game game;
+    private String code;
+    private Player player;
+    private int sent;
+
+    @BeforeEach
+    void setup() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        code = game.getCode();
+        player = playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        updateService.closeEmitters(game);
+        connections.forEach(Connection::close);
+        client.shutdownNow();
+    }
+
+    @Test
+    void replaysFramesMissedWhileDisconnected() throws Exception {
+        final var replayedCount = updateService.getMetrics().getReplayedCount();
+        final var first = subscribe();
+        publish(3);
+        final var received = first.take(3);
+        assertEquals(List.of(1, 2, 3), received.stream().map(Event::number).toList());
+        first.close();
+
+        // Publishing while the player is away, then reconnecting from the last event received
+        publish(2);
+        final var second = connect(received.getLast().id());
+        assertEquals(List.of(4, 5), second.take(2).stream().map(Event::number).toList());
+
+        // Receiving new frames after the replayed ones
+        publish(1);
+        final var next = second.take(1).getFirst();
+        assertEquals(6, next.number());
+        assertEquals(sequenceOf(received.getLast().id()) + 3, sequenceOf(next.id()));
+        assertEquals(replayedCount + 2, updateService.getMetrics().getReplayedCount());
+    }
+
+    @Test
+    void resyncsOnceMissedFramesAreGone() throws Exception {
+        final var resyncedCount = updateService.getMetrics().getResyncedCount();
+        final var first = subscribe();
+        publish(1);
+        final var lastEvent = first.take(1).getFirst();
+        first.close();
+
+        // Publishing more frames than the channel keeps while the player is away
+        publish(properties.replayCapacity() + 1);
+        final var second = connect(lastEvent.id());
+        assertEquals(UpdateType.RESYNC.name(), second.take(1).getFirst().type());
+
+        // Resyncing from an event ID issued by an earlier channel
+        assertEquals(UpdateType.RESYNC.name(), connect("1-1").take(1).getFirst().type());
+        assertEquals(resyncedCount + 3, updateService.getMetrics().getResyncedCount());
+    }
+
+    private void publish(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            final var json = mapper.writeValueAsBytes(new TestUpdate(UpdateType.TURN.name(), ++sent));
+            updateBus.publish(code, sent, List.of(UpdateFrame.wrap(UpdateType.TURN, json)));
+        }
+    }
+
+    /**
+     * Connects from an event ID that can't be parsed, as the response's headers are
+     * only sent along with its first frame. The RESYNC frame sent right away also
+     * shows that the player is subscribed before frames are published.
+     */
+    private Connection subscribe() throws Exception {
+        final var connection = connect("unknown");
+        assertEquals(UpdateType.RESYNC.name(), connection.take(1).getFirst().type());
+        return connection;
+    }
+
+    private Connection connect(String lastEventId) throws Exception {
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/games/" + code + "/sse?playerId=" + player.getId()))
+                .header("Last-Event-ID", lastEventId);
+        final var response = client.send(request.GET().build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        final var connection = new Connection(response.body());
+        connections.add(connection);
+        return connection;
+    }
+
+    private static long sequenceOf(String id) {
+        return Long.parseLong(id.substring(id.indexOf('-') + 1));
+    }
+
+    private record TestUpdate(String type, int number) {
+    }
+
+    private record Event(String id, String type, int number) {
+    }
+
+    /**
+     * Player's SSE connection, whose events are read in the background.
+     */
+    private class Connection {
+
+        private final Stream<String> lines;
+        private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+        private Connection(Stream<String> lines) {
+            this.lines = lines;
+            Thread.ofVirtual().start(this::read);
+        }
+
+        private void read() {
+            final var id = new String[1];
+            try {
+                lines.forEach(line -> {
+                    if (line.startsWith("id:")) {
+                        id[0] = line.substring(3);
+                    } else if (line.startsWith("data:")) {
+                        events.add(parse(id[0], line.substring(5)));
+                        id[0] = null;
+                    }
+                });
+            } catch (RuntimeException ex) {
+                // Connection closed
+            }
+        }
+
+        private Event parse(String id, String json) {
+            try {
+                final var node = mapper.readTree(json.getBytes(StandardCharsets.UTF_8));
+                return new Event(id, node.get("type").asText(), node.path("number").asInt());
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * @return Next events other than pings, in order
+         */
+        private List<Event> take(int count) throws InterruptedException {
+            final var taken = new ArrayList<Event>();
+            while (taken.size() < count) {
+                final var event = events.poll(10, TimeUnit.SECONDS);
+                assertNotNull(event, "Timed out waiting for event");
+                if (!UpdateType.PING.name().equals(event.type())) {
+                    taken.add(event);
+                }
+            }
+            assertNull(events.stream().filter(event -> !UpdateType.PING.name().equals(event.type())).findFirst().orElse(null));
+            return taken;
+        }
+
+        private void close() {
+            lines.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.strategists.game.state;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.TrendChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendSeriesTest {
+
+    private static final long ENTITY_ID = 7;
+
+    @Test
+    void decodesEncodedChunks() {
+        final var random = new Random(42);
+        final var series = new TrendSeries(TrendChunk.Series.PLAYER, ENTITY_ID);
+
+        // Spanning a few chunks, with negative values and jumps taking several bytes
+        var step = 0;
+        for (int point = 0; point < 3 * TrendChunk.CAPACITY + 5; point++) {
+            step += 1 + random.nextInt(3);
+            final var cash = (random.nextDouble() - 0.2) * 10_000;
+            final var netWorth = point % 10 == 0 ? -1_000_000.99 : random.nextDouble() * 1_000_000;
+            series.append(step, cash, netWorth);
+        }
+
+        final var decoded = roundTrip(series);
+
+        assertEquals(series.size(), decoded.size());
+        for (int point = 0; point < series.size(); point++) {
+            assertEquals(series.getStep(point), decoded.getStep(point));
+            assertEquals(series.getValue(0, point), decoded.getValue(0, point));
+            assertEquals(series.getValue(1, point), decoded.getValue(1, point));
+        }
+    }
+
+    @Test
+    void keepsValuesInCents() {
+        final var series = new TrendSeries(TrendChunk.Series.LAND, ENTITY_ID);
+        series.append(1, 100.004);
+        series.append(2, 100.006);
+        series.append(3, -0.015);
+
+        final var decoded = roundTrip(series);
+
+        assertEquals(100.0, decoded.getValue(0, 0));
+        assertEquals(100.01, decoded.getValue(0, 1));
+        assertEquals(-0.01, decoded.getValue(0, 2));
+    }
+
+    @Test
+    void encodesSmallDeltasCompactly() {
+        final var series = new TrendSeries(TrendChunk.Series.LAND, ENTITY_ID);
+        for (int point = 0; point < TrendChunk.CAPACITY; point++) {
+            series.append(point + 1, 1000 + point * 0.25);
+        }
+
+        final var chunk = series.encode(new Game(), 0);
+
+        // Only the first point's values need more than one byte per delta
+        assertEquals(TrendChunk.CAPACITY, chunk.getSize());
+        assertTrue(chunk.getData().length <= 2 * TrendChunk.CAPACITY + 3, () -> "Chunk bytes: " + chunk.getData().length);
+    }
+
+    private static TrendSeries roundTrip(TrendSeries series) {
+        final var game = new Game();
+        final var decoded = new TrendSeries(series.getSeries(), series.getEntityId());
+        for (int chunkIndex = 0; chunkIndex <= TrendSeries.getChunkIndex(series.size() - 1); chunkIndex++) {
+            final var chunk = series.encode(game, chunkIndex);
+            assertEquals(chunkIndex, chunk.getPk().getChunkIndex());
+            decoded.decode(chunk);
+        }
+        return decoded;
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.strategists.game.update;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.strategists.game.configuration.properties.UpdatesConfigurationProperties;
+import com.strategists.game.entity.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeltaEncoderTest {
+
+    private static final int PLAYERS_COUNT = 4;
+    private static final int LANDS_COUNT = 10;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Random random = new Random(42);
+
+    private DeltaEncoder deltaEncoder;
+    private Game game;
+
+    // Entity's ID -> Entity as the client has it, after applying patches
+    private final Map<Long, ObjectNode> clientPlayers = new HashMap<>();
+    private final Map<Long, ObjectNode> clientLands = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        deltaEncoder = new DeltaEncoder();
+        ReflectionTestUtils.setField(deltaEncoder, "properties", new UpdatesConfigurationProperties(64, 1000, 64, true, false));
+        ReflectionTestUtils.setField(deltaEncoder, "mapper", mapper);
+
+        game = new Game();
+        game.setCode("TEST");
+    }
+
+    @Test
+    void appliedPatchesReproduceUpdates() throws IOException {
+        final var players = new HashMap<Long, ObjectNode>();
+        final var lands = new HashMap<Long, ObjectNode>();
+        for (int id = 1; id <= PLAYERS_COUNT; id++) {
+            players.put((long) id, player(id));
+        }
+        for (int id = 1; id <= LANDS_COUNT; id++) {
+            lands.put((long) id, land(id));
+        }
+
+        // Sending the full state first, which the client takes as is
+        final var create = mapper.createObjectNode();
+        create.set("players", array(players.values().stream().toList()));
+        create.set("lands", array(lands.values().stream().toList()));
+        final var created = send(UpdateType.CREATE, create);
+        assertFalse(created.has("delta"));
+        created.get("payload").get("players").forEach(player -> clientPlayers.put(player.get("id").asLong(), (ObjectNode) player));
+        created.get("payload").get("lands").forEach(land -> clientLands.put(land.get("id").asLong(), (ObjectNode) land));
+
+        for (int step = 1; step <= 200; step++) {
+            // Changing a few fields, sometimes removing or adding one back
+            final var player = players.get(1L + random.nextInt(PLAYERS_COUNT));
+            player.put("cash", random.nextInt(10_000));
+            player.put("index", random.nextInt(LANDS_COUNT));
+            if (random.nextBoolean()) {
+                player.remove("remark");
+            } else {
+                player.put("remark", "remark-" + step);
+            }
+            final var land = lands.get(1L + random.nextInt(LANDS_COUNT));
+            land.put("marketValue", random.nextInt(5_000));
+
+            // Checking that each patch applied to the client's entity reproduces the full entity
+            switch (step % 3) {
+                case 0 -> {
+                    final var move = send(UpdateType.MOVE, player.deepCopy());
+                    assertTrue(move.get("delta").asBoolean());
+                    assertEquals(player, apply(clientPlayers, move.get("payload")));
+                }
+                case 1 -> {
+                    final var turn = send(UpdateType.TURN, array(players.values().stream().toList()));
+                    turn.get("payload").forEach(patch -> assertEquals(players.get(patch.get("id").asLong()), apply(clientPlayers, patch)));
+                }
+                default -> {
+                    final var invest = mapper.createObjectNode();
+                    invest.set("land", land.deepCopy());
+                    invest.set("players", array(List.of(player)));
+                    final var payload = send(UpdateType.INVEST, invest).get("payload");
+                    assertEquals(land, apply(clientLands, payload.get("land")));
+                    assertEquals(player, apply(clientPlayers, payload.get("players").get(0)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void patchesOnlyCarryChangedFields() throws IOException {
+        final var player = player(1);
+        final var create = mapper.createObjectNode();
+        create.set("players", array(List.of(player)));
+        create.set("lands", mapper.createArrayNode());
+        send(UpdateType.CREATE, create);
+
+        player.put("cash", 1);
+        player.remove("remark");
+        final var patch = send(UpdateType.MOVE, player.deepCopy()).get("payload");
+
+        final var expected = mapper.createObjectNode();
+        expected.put("id", 1);
+        expected.put("cash", 1);
+        expected.putNull("remark");
+        assertEquals(expected, patch);
+    }
+
+    @Test
+    void carriesUnchangedTrendsForward() throws IOException {
+        send(UpdateType.TREND, array(List.of(trend(1, 1, 100), trend(2, 1, 200), trend(3, 1, 300))));
+
+        // Keeping the first trend, and the changed one
+        final var patches = send(UpdateType.TREND, array(List.of(trend(1, 2, 100), trend(2, 2, 250), trend(3, 2, 300))));
+        assertEquals(array(List.of(trend(1, 2, 100), trend(2, 2, 250))), patches.get("payload"));
+
+        // Sending all trends once the players differ
+        final var full = array(List.of(trend(1, 3, 100), trend(2, 3, 250)));
+        assertEquals(full, send(UpdateType.TREND, full).get("payload"));
+    }
+
+    private ObjectNode send(UpdateType type, JsonNode payload) throws IOException {
+        final var update = mapper.createObjectNode();
+        update.put("type", type.name());
+        update.set("payload", payload);
+        final var frame = UpdateFrame.wrap(type, mapper.writeValueAsBytes(update));
+        return (ObjectNode) mapper.readTree(deltaEncoder.encode(game, frame).getJson());
+    }
+
+    private static ObjectNode apply(Map<Long, ObjectNode> entities, JsonNode patch) {
+        final var entity = entities.get(patch.get("id").asLong()).deepCopy();
+        patch.properties().forEach(field -> {
+            if (field.getValue().isNull()) {
+                entity.remove(field.getKey());
+            } else {
+                entity.set(field.getKey(), field.getValue());
+            }
+        });
+        entities.put(entity.get("id").asLong(), entity);
+        return entity;
+    }
+
+    private ArrayNode array(List<ObjectNode> entities) {
+        final var array = mapper.createArrayNode();
+        entities.forEach(entity -> array.add(entity.deepCopy()));
+        return array;
+    }
+
+    private ObjectNode player(int id) {
+        final var player = mapper.createObjectNode();
+        player.put("id", id);
+        player.put("username", "player-" + id);
+        player.put("cash", 1000);
+        player.put("index", 0);
+        player.put("remark", "joined");
+        return player;
+    }
+
+    private ObjectNode land(int id) {
+        final var land = mapper.createObjectNode();
+        land.put("id", id);
+        land.put("name", "land-" + id);
+        land.put("marketValue", 1000);
+        return land;
+    }
+
+    private ObjectNode trend(int playerId, int step, int cash) {
+        final var trend = mapper.createObjectNode();
+        trend.put("playerId", playerId);
+        trend.put("step", step);
+        trend.put("cash", cash);
+        return trend;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.strategists.game.update;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.request.GoogleOAuthCredential;
+import com.strategists.game.service.GameService;
+import com.strategists.game.service.PlayerService;
+import com.strategists.game.update.bus.UpdateBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "strategists.skip-player.enabled=false",
+        "strategists.clean-up.enabled=false",
+        "strategists.history.data-directory=target/history"
+})
+class UpdateCoalescerTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private UpdateBus updateBus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Game game;
+    private final List<UpdateType> published = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        game = gameService.createGame(new GoogleOAuthCredential("Host" + suffix, "host-" + suffix + "@test.com")).getGame();
+        playerService.addPlayer(game, "player-" + suffix + "@test.com", "Player" + suffix);
+        gameService.startGame(game);
+        game = gameService.getGameByCode(game.getCode());
+
+        updateBus.subscribe(game.getCode(), (code, step, frames) -> frames.forEach(frame -> published.add(frame.getType())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        updateBus.unsubscribe(game.getCode());
+    }
+
+    @Test
+    void sendsUpdatesOnceCommitted() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gameService.playTurn(game);
+            assertTrue(published.isEmpty());
+        });
+        assertTrue(published.contains(UpdateType.TURN));
+    }
+
+    @Test
+    void sendsResyncOnRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gameService.playTurn(game);
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of(UpdateType.RESYNC), published);
+    }
+
+}
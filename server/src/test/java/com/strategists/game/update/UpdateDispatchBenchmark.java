@@ -0,0 +1,197 @@
+package com.strategists.game.update;
+
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.update.event.MoveUpdateEvent;
+import com.strategists.game.update.handler.UpdateHandler;
+import lombok.extern.log4j.Log4j2;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-update dispatch overhead of a MOVE update, raised by an annotated method
+ * through the AOP proxy and aspect updates used to go through, against a typed
+ * event published to the {@link UpdatePublisher}'s handler table. Handlers only
+ * keep what they're handed, so that the dispatch itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateDispatchBenchmark {
+
+    private Player player;
+    private Object handled;
+    private MoveService proxied;
+    private MoveService publishing;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final var game = new Game();
+        game.setCode("BNCH");
+        game.setPlayerBaseCash(1000.0);
+        player = new Player(game, "player@test.com");
+
+        final var land = new Land();
+        land.setName("Land");
+
+        // Proxying the annotated service, as the removed UpdateAspect did
+        final var factory = new AspectJProxyFactory(new MappedMoveService(land));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LegacyUpdateAspect(Map.of(UpdateType.MOVE, (returnValue, args) -> {
+            final var movedPlayer = (Player) args[0];
+            final var move = (int) args[1];
+            handled = new MoveUpdateEvent(movedPlayer, move, (Land) returnValue);
+        }), new UpdateCoalescer()));
+        proxied = factory.getProxy();
+
+        // Registering the handler in the publisher's table, as it's done once all beans exist
+        final var publisher = new UpdatePublisher();
+        final var handlers = (Map<UpdateType, UpdateHandler<?>>) ReflectionTestUtils.getField(publisher, "handlers");
+        handlers.put(UpdateType.MOVE, new UpdateHandler<MoveUpdateEvent>() {
+            @Override
+            public UpdateType getType() {
+                return UpdateType.MOVE;
+            }
+
+            @Override
+            public void handle(MoveUpdateEvent event) {
+                handled = event;
+            }
+        });
+        publishing = new PublishingMoveService(publisher, land);
+    }
+
+    @Benchmark
+    public void aspect(Blackhole blackhole) {
+        blackhole.consume(proxied.movePlayer(player, 3));
+        blackhole.consume(handled);
+    }
+
+    @Benchmark
+    public void publisher(Blackhole blackhole) {
+        blackhole.consume(publishing.movePlayer(player, 3));
+        blackhole.consume(handled);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface Mapping {
+        UpdateType value();
+    }
+
+    /**
+     * Handler of the removed aspect, casting the method's return value and arguments.
+     */
+    public interface LegacyUpdateHandler {
+
+        void handle(Object returnValue, Object[] args);
+
+    }
+
+    public interface MoveService {
+
+        Land movePlayer(Player player, int move);
+
+    }
+
+    public static class MappedMoveService implements MoveService {
+
+        private final Land land;
+
+        public MappedMoveService(Land land) {
+            this.land = land;
+        }
+
+        @Override
+        @Mapping(UpdateType.MOVE)
+        public Land movePlayer(Player player, int move) {
+            return land;
+        }
+
+    }
+
+    public static class PublishingMoveService implements MoveService {
+
+        private final UpdatePublisher publisher;
+        private final Land land;
+
+        public PublishingMoveService(UpdatePublisher publisher, Land land) {
+            this.publisher = publisher;
+            this.land = land;
+        }
+
+        @Override
+        public Land movePlayer(Player player, int move) {
+            publisher.publish(new MoveUpdateEvent(player, move, land));
+            return land;
+        }
+
+    }
+
+    /**
+     * UpdateAspect as it was before updates were published as typed events.
+     */
+    @Log4j2
+    @Aspect
+    public static class LegacyUpdateAspect {
+
+        private final Map<UpdateType, LegacyUpdateHandler> handlers;
+        private final UpdateCoalescer coalescer;
+
+        public LegacyUpdateAspect(Map<UpdateType, LegacyUpdateHandler> handlers, UpdateCoalescer coalescer) {
+            this.handlers = handlers;
+            this.coalescer = coalescer;
+        }
+
+        @Around("@annotation(mapping)")
+        public Object advice(ProceedingJoinPoint joinPoint, Mapping mapping) throws Throwable {
+            // Collecting updates of nested mappings, sent together once the outermost mapping returns
+            coalescer.begin();
+            try {
+                return handle(joinPoint, mapping);
+            } finally {
+                coalescer.end();
+            }
+        }
+
+        private Object handle(ProceedingJoinPoint joinPoint, Mapping mapping) throws Throwable {
+            final var returnValue = joinPoint.proceed();
+            if (!handlers.containsKey(mapping.value())) {
+                log.warn("No handler registered for update type: {}", mapping.value());
+                return returnValue;
+            }
+
+            handlers.get(mapping.value()).handle(returnValue, joinPoint.getArgs());
+            log.debug("Handled update type: {}", mapping.value());
+            return returnValue;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.strategists.game.update;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.strategists.game.entity.Activity;
+import com.strategists.game.entity.Game;
+import com.strategists.game.entity.Land;
+import com.strategists.game.entity.Player;
+import com.strategists.game.update.payload.MoveUpdatePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasting an update to every subscriber and the history, serializing the
+ * payload per subscriber and again for the history as updates used to be sent,
+ * against encoding it once into an {@link UpdateFrame} shared by all of them.
+ * Subscribers' streams are replaced by a stream discarding the bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateFrameBenchmark {
+
+    private static final byte[] EVENT_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"6", "60", "600"})
+    private int subscribers;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final OutputStream out = OutputStream.nullOutputStream();
+    private MoveUpdatePayload payload;
+
+    @Setup
+    public void setup() {
+        final var game = new Game();
+        game.setCode("BNCH");
+        game.setCurrentStep(42);
+        game.setPlayerBaseCash(1000.0);
+
+        final var player = new Player(game, "player@test.com");
+        player.setId(1L);
+        player.setUsername("Player");
+
+        // Owning a few lands, which the player's JSON lists
+        final var lands = new ArrayList<Land>();
+        for (long id = 1; id <= 5; id++) {
+            final var land = new Land();
+            land.setId(id);
+            land.setName("Land" + id);
+            land.setGame(game);
+            land.setBaseValue(250.0);
+            land.setSensitivity(10);
+            land.setLandEvents(new ArrayList<>());
+            land.setPlayerLands(new ArrayList<>());
+            player.addLand(land, 10, 25);
+            lands.add(land);
+        }
+
+        payload = new MoveUpdatePayload(Activity.ofMove(player, 3, lands.getFirst()), player);
+    }
+
+    @Benchmark
+    public void serializePerSubscriber(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < subscribers; i++) {
+            out.write(EVENT_PREFIX);
+            out.write(mapper.writeValueAsBytes(payload));
+            out.write(EVENT_SUFFIX);
+        }
+
+        // History serialized the payload with a fresh mapper
+        blackhole.consume(new ObjectMapper().writeValueAsBytes(payload));
+    }
+
+    @Benchmark
+    public void encodeOnce(Blackhole blackhole) throws IOException {
+        final var frame = UpdateFrame.encode(mapper, payload);
+        for (int i = 0; i < subscribers; i++) {
+            for (final var event : frame.getEvent()) {
+                out.write((byte[]) event.getData());
+            }
+        }
+
+        // History keeps the frame and writes its JSON on export
+        frame.writeJson(out);
+        blackhole.consume(frame);
+    }
+
+}
@@ -1,4 +1,4 @@
-import { useCallback } from 'react';
+import { useCallback, useMemo } from 'react';
 import { useDispatch } from 'react-redux';
 import { Collapse, Select, Space, Timeline } from 'antd';
 import {
@@ -8,6 +8,8 @@ import {
 } from '@ant-design/icons';
 import useNotifications from '@shared/hooks/useNotifications';
 import useActivitiesState from '@activities/hooks/useActivitiesState';
+import { renderActivity } from '@activities/utils/templates';
+import useLoginState from '@login/hooks/useLoginState';
 import {
   UpdateType,
   getSubscribableTypes,
@@ -17,6 +19,7 @@ import ActivityIcon from './ActivityIcon';
 
 function Activities() {
   const { filteredActivites, subscribedTypes } = useActivitiesState();
+  const { gameCode } = useLoginState();
   const { infoNotification } = useNotifications();
   const dispatch = useDispatch();
 
@@ -41,6 +44,16 @@ function Activities() {
     dispatch(subscribedTypesSetted(updateTypes));
   };
 
+  // Rendering activities' texts only when the activities change
+  const timelineItems = useMemo(
+    () =>
+      filteredActivites.map((activity) => ({
+        dot: <ActivityIcon type={activity.type} />,
+        children: renderActivity(activity, gameCode ?? ''),
+      })),
+    [filteredActivites, gameCode],
+  );
+
   const SettingsIcon = useCallback(
     (props: any) => <SettingOutlined rotate={props.isActive ? 90 : 0} />,
     [],
@@ -86,12 +99,7 @@ function Activities() {
       />
       <Timeline
         className="strategists-activity__timeline"
-        items={filteredActivites.map((activity) => {
-          return {
-            dot: <ActivityIcon type={activity.type} />,
-            children: activity.text,
-          };
-        })}
+        items={timelineItems}
       />
     </div>
   );
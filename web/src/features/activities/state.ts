@@ -3,6 +3,7 @@ import { createSlice } from '@reduxjs/toolkit';
 export type UpdateType =
   | 'ADVICE'
   | 'BANKRUPTCY'
+  | 'BATCH'
   | 'BONUS'
   | 'CHEAT'
   | 'CLEAN_UP'
@@ -16,6 +17,7 @@ export type UpdateType =
   | 'PREDICTION'
   | 'RENT'
   | 'RESET'
+  | 'RESYNC'
   | 'SKIP'
   | 'START'
   | 'TRADE'
@@ -45,10 +47,30 @@ export const getSubscribableTypes = (): UpdateType[] => {
   ];
 };
 
+export type ActivityTemplate =
+  | 'BANKRUPTCY'
+  | 'CREATE'
+  | 'INVEST'
+  | 'JOIN'
+  | 'KICK'
+  | 'MOVE'
+  | 'PREDICTION_LEADER'
+  | 'PREDICTION_WINNER'
+  | 'RENT'
+  | 'RESET'
+  | 'SKIP'
+  | 'START'
+  | 'TURN'
+  | 'WIN';
+
 export interface Activity {
   type: UpdateType;
   step: number;
-  text: string;
+  template: ActivityTemplate;
+  player?: string;
+  otherPlayer?: string;
+  land?: string;
+  amount?: number;
 }
 
 export interface ActivitiesState {
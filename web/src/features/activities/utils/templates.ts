@@ -0,0 +1,33 @@
+import { Activity, ActivityTemplate } from '@activities/state';
+
+type Render = (activity: Activity, gameCode: string) => string;
+
+// Texts of activities, rendered from the arguments sent by the server
+const templates: Record<ActivityTemplate, Render> = {
+  BANKRUPTCY: ({ player }) => `${player} declared bankruptcy!`,
+  CREATE: ({ player }, gameCode) => `${player} created game ${gameCode}`,
+  INVEST: ({ player, amount, land }) =>
+    `${player} invested in ${amount}% of ${land}!`,
+  JOIN: ({ player }) => `${player} joined The Strategists!`,
+  KICK: ({ player }) => `Host kicked ${player} out!`,
+  MOVE: ({ player, amount, land }) =>
+    `${player} travelled ${amount} steps and reached ${land}.`,
+  PREDICTION_LEADER: ({ player }) =>
+    `${player} leads slightly based on the predictions.`,
+  PREDICTION_WINNER: ({ player }) =>
+    `${player} is likely to win based on the predictions!`,
+  RENT: ({ player, amount, otherPlayer, land }) =>
+    `${player} paid ${amount} cash rent to ${otherPlayer} for ${land}.`,
+  RESET: () => 'Host restarted The Strategists!',
+  SKIP: ({ player }) => `${player}'s turn skipped due to inactivity!`,
+  START: ({ player }) => `The Strategists started! ${player}'s turn to invest.`,
+  TURN: ({ player, otherPlayer }) => `${player} passed turn to ${otherPlayer}.`,
+  WIN: ({ player }) => `${player} won The Strategists!`,
+};
+
+export const renderActivity = (activity: Activity, gameCode: string) => {
+  const render = templates[activity.template];
+  return render
+    ? render(activity, gameCode)
+    : `Unknown activity type: '${activity.type}'`;
+};
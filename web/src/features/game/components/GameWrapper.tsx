@@ -6,6 +6,7 @@ import { DisconnectOutlined } from '@ant-design/icons';
 import axios from 'axios';
 import useNotifications from '@shared/hooks/useNotifications';
 import useActivitiesState from '@activities/hooks/useActivitiesState';
+import { renderActivity } from '@activities/utils/templates';
 import {
   activityAdded,
   Activity,
@@ -19,10 +20,12 @@ import {
   Player,
   gameSetted,
   gamePatched,
+  landsMerged,
   landsPatched,
   landsSetted,
   playerAdded,
   playerKicked,
+  playersMerged,
   playersPatched,
   playersSetted,
 } from '@game/state';
@@ -33,7 +36,12 @@ import {
   playerPredictionsAdded,
   playerPredictionsSetted,
 } from '@predictions/state';
-import { Trend, trendsAdded, trendsSetted } from '@trends/state';
+import {
+  Trend,
+  trendsAdded,
+  trendsPatched,
+  trendsSetted,
+} from '@trends/state';
 
 interface UpdatePayload {
   timestamp: number;
@@ -41,7 +49,9 @@ interface UpdatePayload {
   gameStep: number | null;
   type: UpdateType;
   activity: Activity | null;
+  activities?: Activity[] | null;
   payload: any | null;
+  delta?: boolean;
 }
 
 interface GameResponse {
@@ -139,8 +149,7 @@ function GameWrapper({ children }: PropsWithChildren) {
   useEffect(() => {
     if (!updates || !gameCode) return;
 
-    // Setting up onerror startegy for the event source
-    updates.onerror = () => {
+    const disconnect = () => {
       // Preventing reconnection using the same instance.
       updates.close();
 
@@ -155,20 +164,43 @@ function GameWrapper({ children }: PropsWithChildren) {
       });
     };
 
-    // Setting up on message strategy for the event source
-    updates.onmessage = (message: MessageEvent<any>) => {
-      const { timestamp, gameStep, type, payload, activity }: UpdatePayload =
-        JSON.parse(message.data);
+    // Setting up onerror startegy for the event source
+    updates.onerror = () => {
+      // Letting the browser reconnect, server replays missed updates on reconnection
+      if (updates.readyState === EventSource.CLOSED) {
+        disconnect();
+      }
+    };
+
+    const handleUpdate = ({
+      timestamp,
+      gameStep,
+      type,
+      payload,
+      activity,
+      activities,
+      delta,
+    }: UpdatePayload) => {
+      // Merging patches of delta updates, instead of replacing the entities
+      const patchPlayers = (players: Player[]) =>
+        dispatch(delta ? playersMerged(players) : playersPatched(players));
+      const patchLands = (lands: Land[]) =>
+        dispatch(delta ? landsMerged(lands) : landsPatched(lands));
+
       switch (type) {
         case 'ADVICE':
           dispatch(advicesAddedOrPatched(payload));
           break;
         case 'BANKRUPTCY': {
           const { lands, players } = payload;
-          dispatch(landsPatched(lands));
-          dispatch(playersPatched(players));
+          patchLands(lands);
+          patchPlayers(players);
           break;
         }
+        case 'BATCH':
+          // Handling a game command's updates in order
+          (payload as UpdatePayload[]).forEach(handleUpdate);
+          return;
         case 'CLEAN_UP':
           dispatch(loggedOut());
           break;
@@ -177,8 +209,8 @@ function GameWrapper({ children }: PropsWithChildren) {
           break;
         case 'INVEST': {
           const { land, players } = payload;
-          dispatch(landsPatched([land]));
-          dispatch(playersPatched(players));
+          patchLands([land]);
+          patchPlayers(players);
           break;
         }
         case 'JOIN':
@@ -192,7 +224,7 @@ function GameWrapper({ children }: PropsWithChildren) {
           dispatch(playerKicked(payload));
           break;
         case 'MOVE':
-          dispatch(playersPatched([payload]));
+          patchPlayers([payload]);
           break;
         case 'PING':
           // Do nothing
@@ -201,23 +233,27 @@ function GameWrapper({ children }: PropsWithChildren) {
           dispatch(playerPredictionsAdded(payload));
           break;
         case 'RENT':
-          dispatch(playersPatched(payload));
+          patchPlayers(payload);
           break;
         case 'RESET':
           syncUIByGameResponse(payload, dispatch);
           break;
+        case 'RESYNC':
+          // Missed updates are gone, syncing game's state instead
+          syncUIByGameCode(gameCode, dispatch).catch(disconnect);
+          break;
         case 'SKIP':
-          dispatch(playersPatched([payload]));
+          patchPlayers([payload]);
           break;
         case 'START':
-          dispatch(playersPatched([payload]));
+          patchPlayers([payload]);
           dispatch(gamePatched({ state: 'ACTIVE' }));
           break;
         case 'TREND':
-          dispatch(trendsAdded(payload));
+          dispatch(delta ? trendsPatched(payload) : trendsAdded(payload));
           break;
         case 'TURN':
-          dispatch(playersPatched(payload));
+          patchPlayers(payload);
           break;
         case 'WIN':
           // Assuming win payload's timestamp as game end time
@@ -227,11 +263,16 @@ function GameWrapper({ children }: PropsWithChildren) {
           throw new Error(`Unsupported update type: ${type}`);
       }
 
-      // Checking if activity part of payload
-      if (!activity) return;
-      dispatch(activityAdded(activity));
-      if (subscribedTypes.includes(type)) {
-        openNotification({ message: activity.text });
+      // Checking if activity (or activities, like for rents) part of payload
+      const addedActivities = activities ?? (activity ? [activity] : []);
+      if (!addedActivities.length) return;
+      for (const addedActivity of addedActivities) {
+        dispatch(activityAdded(addedActivity));
+        if (subscribedTypes.includes(type)) {
+          openNotification({
+            message: renderActivity(addedActivity, gameCode),
+          });
+        }
       }
 
       // Updating game's turn
@@ -239,6 +280,11 @@ function GameWrapper({ children }: PropsWithChildren) {
         dispatch(gamePatched({ currentStep: gameStep }));
       }
     };
+
+    // Setting up on message strategy for the event source
+    updates.onmessage = (message: MessageEvent<any>) => {
+      handleUpdate(JSON.parse(message.data));
+    };
   }, [
     openNotification,
     errorNotification,
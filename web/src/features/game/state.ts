@@ -1,4 +1,5 @@
 import { createSlice } from '@reduxjs/toolkit';
+import { applyPatches } from '@game/utils/deltas';
 
 export interface PlayerLand {
   landId?: number;
@@ -114,6 +115,9 @@ const slice = createSlice({
         (player) => patches.get(player.id) || player,
       );
     },
+    playersMerged: (state, { payload }: { payload: Partial<Player>[] }) => {
+      state.players = applyPatches(state.players, payload || []);
+    },
     landsSetted: (state, { payload }: { payload: Land[] }) => {
       state.lands = [...payload];
     },
@@ -124,6 +128,9 @@ const slice = createSlice({
       }, new Map<number, Land>());
       state.lands = state.lands.map((land) => patches.get(land.id) || land);
     },
+    landsMerged: (state, { payload }: { payload: Partial<Land>[] }) => {
+      state.lands = applyPatches(state.lands, payload || []);
+    },
   },
 });
 
@@ -134,8 +141,10 @@ export const {
   playerAdded,
   playerKicked,
   playersPatched,
+  playersMerged,
   landsSetted,
   landsPatched,
+  landsMerged,
 } = slice.actions;
 
 export default slice.reducer;
@@ -0,0 +1,56 @@
+import { Trend } from '@trends/state';
+
+/**
+ * Reference applier of delta updates, i.e. updates marked with `delta`.
+ * Patches carry the entity's ID and the fields that changed since the entity
+ * was last sent, where `null` marks a removed field.
+ */
+export const applyPatches = <T extends { id: number }>(
+  entities: T[],
+  patches: Partial<T>[],
+): T[] => {
+  const patchesById = new Map(
+    patches.map((patch) => [patch.id, patch] as const),
+  );
+  return entities.map((entity) => {
+    const patch = patchesById.get(entity.id);
+    if (!patch) return entity;
+
+    const patched = { ...entity };
+    (Object.keys(patch) as (keyof T)[]).forEach((key) => {
+      const value = patch[key];
+      patched[key] = (value === null ? undefined : value) as T[keyof T];
+    });
+    return patched;
+  });
+};
+
+/**
+ * Trend patches only carry the entities whose values changed since the
+ * previous step, along with the first trend identifying the trends' kind and
+ * step. The other entities of the previous step are carried forward.
+ */
+export const expandTrends = (trends: Trend[], patches: Trend[]): Trend[] => {
+  if (!patches.length) return patches;
+
+  const idKey = patches[0].playerId !== undefined ? 'playerId' : 'landId';
+  const { step } = patches[0];
+
+  // Finding the previous step's trends of the same kind
+  const previousStep = trends.reduce(
+    (max, trend) =>
+      trend[idKey] !== undefined ? Math.max(max, trend.step ?? max) : max,
+    -1,
+  );
+  const patched = new Set(patches.map((trend) => trend[idKey]));
+  const carried = trends
+    .filter(
+      (trend) =>
+        trend[idKey] !== undefined &&
+        trend.step === previousStep &&
+        !patched.has(trend[idKey]),
+    )
+    .map((trend) => ({ ...trend, step }));
+
+  return [...patches, ...carried];
+};
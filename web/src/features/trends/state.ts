@@ -1,4 +1,5 @@
 import { createSlice } from '@reduxjs/toolkit';
+import { expandTrends } from '@game/utils/deltas';
 
 export interface PlayerTrend {
   playerId: number;
@@ -28,9 +29,13 @@ const slice = createSlice({
       ...state,
       ...payload,
     ],
+    trendsPatched: (state, { payload }: { payload: Trend[] }) => [
+      ...state,
+      ...expandTrends(state, payload),
+    ],
   },
 });
 
-export const { trendsSetted, trendsAdded } = slice.actions;
+export const { trendsSetted, trendsAdded, trendsPatched } = slice.actions;
 
 export default slice.reducer;